@@ -0,0 +1,64 @@
+package com.example.loginbe.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+// 로컬 Redis(127.0.0.1:6379) 왕복 비용
+@State(Scope.Benchmark)
+public class RedisDaoBenchmark {
+
+    private static final String KEY = "jmh:redis-dao";
+    private static final List<String> KEYS = List.of(KEY, KEY + ":1", KEY + ":2", KEY + ":3");
+
+    private LettuceConnectionFactory factory;
+    private RedisDao redisDao;
+
+    @Setup
+    public void setUp() {
+        factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", 6379));
+        factory.afterPropertiesSet();
+        factory.start();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(factory);
+
+        redisDao = new RedisDao(redisTemplate, new ReactiveStringRedisTemplate(factory), new SimpleMeterRegistry());
+        redisDao.setValues(KEY, "value", Duration.ofMinutes(10));
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisDao.deleteValues(KEY);
+        factory.destroy();
+    }
+
+    @Benchmark
+    public void setValues() {
+        redisDao.setValues(KEY, "value", Duration.ofMinutes(10));
+    }
+
+    @Benchmark
+    public String getValues() {
+        return redisDao.getValues(KEY);
+    }
+
+    @Benchmark
+    public List<String> multiGet() {
+        return redisDao.multiGet(KEYS);
+    }
+
+    @Benchmark
+    public String getValuesAsync() {
+        return redisDao.getValuesAsync(KEY).join();
+    }
+}
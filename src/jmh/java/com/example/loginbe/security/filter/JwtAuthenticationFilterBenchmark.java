@@ -0,0 +1,84 @@
+package com.example.loginbe.security.filter;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.security.TokenUserDetails;
+import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.ParsedToken;
+import com.example.loginbe.security.util.RefreshSessionStore;
+import com.example.loginbe.security.util.SigningKeyRing;
+import com.example.loginbe.security.util.SubjectType;
+import com.example.loginbe.security.util.TokenBlacklist;
+import com.example.loginbe.security.util.VerifiedTokenCache;
+import com.example.loginbe.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 인증된 요청 하나가 필터를 통과하는 비용 (토큰 파싱 + 블랙리스트 + 사용자 정보 + SecurityContext)
+// 사용자 조회는 mock -> DB를 제외한 필터 자체 비용만 측정
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "jmh-benchmark-secret-key-must-be-at-least-256-bits-long";
+
+    @Param({"claims", "database"})
+    public String authMode;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        RedisDao redisDao = mock(RedisDao.class);
+        TokenBlacklist blacklist = new TokenBlacklist(redisDao, null, "near-cache", false);
+        SigningKeyRing keyRing = new SigningKeyRing(SECRET, SigningKeyRing.Algorithm.HS256, true,
+                Duration.ofDays(1), 10_000, redisDao);
+        JwtTokenProvider provider = new JwtTokenProvider(keyRing, redisDao,
+                new VerifiedTokenCache(cacheEnabled, 100_000, 300), blacklist,
+                new RefreshSessionStore(redisDao, 5, true), false, new SimpleMeterRegistry());
+
+        UserDetails user = User.withUsername("user@example.com").password("").roles("USER").build();
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.loadUserBySubject(any(), any())).thenReturn(user);
+        when(userDetailsService.loadUserFromClaims(any())).thenAnswer(invocation -> {
+            ParsedToken parsed = invocation.getArgument(0);
+            return new TokenUserDetails(parsed.getSubject(), parsed.getSubjectType(), parsed.getRole(), () -> null);
+        });
+
+        filter = new JwtAuthenticationFilter(provider, userDetailsService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "authMode", authMode);
+        authorization = "Bearer " + provider.generateAccessToken("user@example.com", SubjectType.EMAIL, "ROLE_USER");
+    }
+
+    @Benchmark
+    public void doFilterInternal(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilterInternal(request, response, new MockFilterChain());
+
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.loginbe.security.util;
+
+import com.example.loginbe.repository.RedisDao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+
+// 토큰 발급/검증 처리량 (Redis는 mock -> 순수 서명/파싱 비용)
+// cacheEnabled=true 는 같은 토큰을 반복 검증하므로 VerifiedTokenCache 적중 경로
+// algorithm: HS256(jwt.secret) / ES256(키 링) 서명, 검증 비용 비교 (cacheEnabled=false 로 비교)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "jmh-benchmark-secret-key-must-be-at-least-256-bits-long";
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    @Param({"HS256", "ES256"})
+    public SigningKeyRing.Algorithm algorithm;
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        RedisDao redisDao = mock(RedisDao.class);
+        TokenBlacklist blacklist = new TokenBlacklist(redisDao, null, "near-cache", false);
+        SigningKeyRing keyRing = new SigningKeyRing(SECRET, algorithm, true, Duration.ofDays(1), 10_000, redisDao);
+        provider = new JwtTokenProvider(keyRing, redisDao,
+                new VerifiedTokenCache(cacheEnabled, 100_000, 300), blacklist,
+                new RefreshSessionStore(redisDao, 5, true), false, new SimpleMeterRegistry());
+        accessToken = provider.generateAccessToken("user@example.com", SubjectType.EMAIL, "ROLE_USER");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToken("user@example.com", SubjectType.EMAIL, "ROLE_USER");
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return provider.generateRefreshToken("user@example.com", SubjectType.EMAIL, "ROLE_USER");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return provider.getEmailFromToken(accessToken);
+    }
+}
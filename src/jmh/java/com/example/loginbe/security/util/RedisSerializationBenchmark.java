@@ -0,0 +1,112 @@
+package com.example.loginbe.security.util;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+// 문자열 템플릿 경로 vs byte[] 키/바이너리 세션 경로의 연산당 할당량 비교 (gc.alloc.rate.norm)
+// - template*: 키 문자열 생성 -> UTF-8 인코딩, 응답 byte[] -> String -> split/parseLong
+// - raw*: 미리 인코딩한 접두사로 byte[] 키 생성, EXISTS / 바이너리 값 고정 위치 읽기
+// Redis 왕복 벤치마크(redis*)는 로컬 Redis(127.0.0.1:6379) 필요
+@State(Scope.Benchmark)
+public class RedisSerializationBenchmark {
+
+    private static final String SESSION_ID = TokenDigest.newTokenId();
+    private static final long NOW = System.currentTimeMillis();
+    private static final RefreshSession SESSION = new RefreshSession(SESSION_ID, TokenDigest.newTokenId(),
+            NOW, NOW + Duration.ofDays(1).toMillis(), "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X)");
+
+    private final String tokenId = TokenDigest.newTokenId();
+    private final byte[] textSession = SESSION.toValue().getBytes(StandardCharsets.UTF_8);
+    private final byte[] binarySession = SESSION.toBytes();
+
+    @Benchmark
+    public byte[] templateBlacklistKey() {
+        return StringRedisSerializer.UTF_8.serialize(RedisKeys.blacklist(tokenId));
+    }
+
+    @Benchmark
+    public byte[] rawBlacklistKey() {
+        return RedisKeys.BLACKLIST_KEY.key(tokenId);
+    }
+
+    @Benchmark
+    public RefreshSession templateSessionDecode() {
+        return RefreshSession.fromValue(SESSION_ID, StringRedisSerializer.UTF_8.deserialize(textSession));
+    }
+
+    @Benchmark
+    public RefreshSession rawSessionDecode() {
+        return RefreshSession.fromBytes(SESSION_ID, binarySession);
+    }
+
+    @State(Scope.Benchmark)
+    public static class RedisState {
+
+        private static final String SUBJECT = "jmh-serialization@example.com";
+        private static final String TEXT_SUBJECT = "jmh-serialization-text@example.com";
+
+        LettuceConnectionFactory factory;
+        RedisDao redisDao;
+        String tokenId;
+
+        @Setup
+        public void setUp() {
+            factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", 6379));
+            factory.afterPropertiesSet();
+            factory.start();
+            redisDao = new RedisDao(new StringRedisTemplate(factory), new ReactiveStringRedisTemplate(factory),
+                    new SimpleMeterRegistry());
+
+            tokenId = TokenDigest.newTokenId();
+            redisDao.setValues(RedisKeys.blacklist(tokenId), "1", Duration.ofMinutes(10));
+            // 같은 세션을 텍스트/바이너리 형식으로 각각 저장
+            redisDao.putHashValue(RedisKeys.sessions(TEXT_SUBJECT), SESSION_ID, SESSION.toValue());
+            new RefreshSessionStore(redisDao, 5, true).create(SUBJECT, SESSION);
+        }
+
+        @TearDown
+        public void tearDown() {
+            redisDao.deleteValues(List.of(RedisKeys.blacklist(tokenId), RedisKeys.sessions(SUBJECT),
+                    RedisKeys.sessions(TEXT_SUBJECT)));
+            factory.destroy();
+        }
+    }
+
+    @Benchmark
+    public boolean redisTemplateBlacklist(RedisState state) {
+        return state.redisDao.getValues(RedisKeys.blacklist(state.tokenId)) != null;
+    }
+
+    @Benchmark
+    public boolean redisRawBlacklist(RedisState state) {
+        return state.redisDao.existsRaw(RedisKeys.BLACKLIST_KEY.key(state.tokenId));
+    }
+
+    @Benchmark
+    public RefreshSession redisTemplateSession(RedisState state) {
+        String value = state.redisDao.getHashValue(RedisKeys.sessions(RedisState.TEXT_SUBJECT), SESSION_ID);
+        return RefreshSession.fromValue(SESSION_ID, value);
+    }
+
+    @Benchmark
+    public RefreshSession redisRawSession(RedisState state) {
+        byte[] value = state.redisDao.getHashValueRaw(RedisKeys.SESSIONS_KEY.key(RedisState.SUBJECT),
+                SESSION_ID.getBytes(StandardCharsets.US_ASCII));
+        return RefreshSession.fromBytes(SESSION_ID, value);
+    }
+}
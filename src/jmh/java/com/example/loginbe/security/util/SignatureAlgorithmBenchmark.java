@@ -0,0 +1,89 @@
+package com.example.loginbe.security.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+// 서명 알고리즘별 순수 서명/검증 비용 (JDK 구현, 토큰 직렬화 제외)
+// EdDSA(Ed25519)는 현재 jjwt 버전에서 토큰 발급을 지원하지 않아 비교용으로만 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignatureAlgorithmBenchmark {
+
+    // 일반적인 accessToken의 header.payload 길이
+    private static final byte[] PAYLOAD = ("eyJraWQiOiJrZXkiLCJhbGciOiJFUzI1NiJ9."
+            + "eyJqdGkiOiJhYmNkZWZnaGlqa2xtbm9wcXJzdHV2Iiwic3ViIjoidXNlckBleGFtcGxlLmNvbSIsInJvbGUiOiJST0xFX1VTRVIi"
+            + "LCJzdCI6ImVtYWlsIiwic2lkIjoiYWJjZGVmZ2hpamtsbW5vcHFyc3R1diIsImlhdCI6MTcwMDAwMDAwMCwiZXhwIjoxNzAwMDAxODAwfQ")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"HS256", "ES256", "Ed25519"})
+    public String algorithm;
+
+    private Mac mac;
+    private Signature signer;
+    private Signature verifier;
+    private byte[] signature;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        if (algorithm.equals("HS256")) {
+            mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(JwtTokenProviderBenchmark.SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            signature = mac.doFinal(PAYLOAD);
+            return;
+        }
+
+        KeyPair keyPair;
+        String signatureAlgorithm;
+        if (algorithm.equals("ES256")) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            keyPair = generator.generateKeyPair();
+            signatureAlgorithm = "SHA256withECDSA";
+        } else {
+            keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            signatureAlgorithm = "Ed25519";
+        }
+        signer = Signature.getInstance(signatureAlgorithm);
+        signer.initSign(keyPair.getPrivate());
+        verifier = Signature.getInstance(signatureAlgorithm);
+        verifier.initVerify(keyPair.getPublic());
+        signature = sign();
+    }
+
+    @Benchmark
+    public byte[] sign() throws GeneralSecurityException {
+        if (mac != null) {
+            return mac.doFinal(PAYLOAD);
+        }
+        signer.update(PAYLOAD);
+        return signer.sign();
+    }
+
+    @Benchmark
+    public boolean verify() throws GeneralSecurityException {
+        if (mac != null) {
+            // HMAC 검증 = 다시 계산해서 비교
+            return MessageDigest.isEqual(mac.doFinal(PAYLOAD), signature);
+        }
+        verifier.update(PAYLOAD);
+        return verifier.verify(signature);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.loginbe.config;
+
+import com.example.loginbe.security.util.TokenBlacklist;
+import com.example.loginbe.security.util.VerifiedTokenCache;
+import com.example.loginbe.service.PasswordHashingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 컴포넌트가 이미 세고 있는 값을 지표로 노출 (조회 시점에만 읽으므로 요청 처리 비용 없음)
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder tokenCacheMetrics(VerifiedTokenCache cache) {
+        return registry -> {
+            FunctionCounter.builder("jwt.cache.requests", cache, VerifiedTokenCache::getHitCount)
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("jwt.cache.requests", cache, VerifiedTokenCache::getMissCount)
+                    .tag("result", "miss").register(registry);
+            FunctionCounter.builder("jwt.cache.evictions", cache, VerifiedTokenCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("jwt.cache.size", cache, VerifiedTokenCache::size).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder tokenBlacklistMetrics(TokenBlacklist blacklist) {
+        return registry -> Gauge.builder("jwt.blacklist.size", blacklist, TokenBlacklist::size).register(registry);
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingService hashing) {
+        return registry -> {
+            FunctionCounter.builder("password.hash.rejected", hashing, PasswordHashingService::getRejectedCount)
+                    .register(registry);
+            FunctionCounter.builder("password.hash.timeouts", hashing, PasswordHashingService::getTimeoutCount)
+                    .register(registry);
+            Gauge.builder("password.hash.queue", hashing, PasswordHashingService::getQueueSize).register(registry);
+            Gauge.builder("password.hash.active", hashing, PasswordHashingService::getActiveCount).register(registry);
+        };
+    }
+}
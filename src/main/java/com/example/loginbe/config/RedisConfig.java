@@ -1,13 +1,31 @@
 package com.example.loginbe.config;
 
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 
 @Configuration
 @EnableRedisRepositories
@@ -21,34 +39,120 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
-    // Redis 연결 설정
+    @Value("${spring.data.redis.timeout:2000}")
+    private long timeoutMillis;
+
+    // standalone: host/port 한 대, sentinel: 장애 시 자동 primary 전환, cluster: 슬롯 단위 분산
+    @Value("${redis.topology:standalone}")
+    private String topology;
+
+    @Value("${spring.data.redis.sentinel.master:}")
+    private String sentinelMaster;
+
+    // host:port,host:port
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String sentinelNodes;
+
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
+    @Value("${spring.data.redis.cluster.max-redirects:3}")
+    private int clusterMaxRedirects;
+
+    // true면 replicaRedisTemplate의 읽기는 복제본에서 (복제본이 없으면 primary)
+    @Value("${redis.replica-reads:false}")
+    private boolean replicaReads;
+
+    // Boot가 만든 ClientResources를 쓰면 Lettuce 명령 지표(lettuce.command.*)가 Micrometer에 기록됨
+    @Autowired
+    private ObjectProvider<ClientResources> clientResources;
+
+    // Redis 연결 설정 (쓰기와 바로 다시 읽어야 하는 조회는 모두 primary)
     @Bean
+    @Primary
     public LettuceConnectionFactory lettuceConnectionFactory() {
         // Lettuce는 동기와 비동기 통신 모두를 지원하지만
         // Jedis는 동기식 통신만 지원
         // => 대량의 요청과 응답 처리에 있어서, Lettuce가 더욱 유리함
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-        redisStandaloneConfiguration.setHostName(host);
-        redisStandaloneConfiguration.setPort(port);
+        return connectionFactory(null);
+    }
 
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+    // 복제본 읽기용 연결 (발송 상태 조회처럼 복제 지연 동안 이전 값을 읽어도 되는 조회만 사용)
+    // -> standalone에서도 primary의 INFO replication으로 복제본을 찾아 읽음
+    // 복제본 읽기를 끄면 만들지 않음 (사용하지 않는 연결/토폴로지 조회 방지)
+    @Bean
+    @ConditionalOnProperty(name = "redis.replica-reads", havingValue = "true")
+    public LettuceConnectionFactory replicaLettuceConnectionFactory() {
+        return connectionFactory(ReadFrom.REPLICA_PREFERRED);
     }
 
+    private LettuceConnectionFactory connectionFactory(ReadFrom readFrom) {
+        // 가상 스레드 환경에서도 Redis 장애 시 요청이 무한정 대기하지 않도록 명령 타임아웃 지정
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(timeoutMillis));
+        clientResources.ifAvailable(builder::clientResources);
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+        if ("cluster".equals(topology)) {
+            // failover, 슬롯 이동(MOVED/ASK) 시 바로 토폴로지를 다시 읽고, 주기적으로도 갱신
+            builder.clientOptions(ClusterClientOptions.builder()
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enableAllAdaptiveRefreshTriggers()
+                            .enablePeriodicRefresh(Duration.ofSeconds(30))
+                            .build())
+                    .build());
+        }
+        return new LettuceConnectionFactory(redisConfiguration(), builder.build());
+    }
+
+    private RedisConfiguration redisConfiguration() {
+        return switch (topology) {
+            case "standalone" -> new RedisStandaloneConfiguration(host, port);
+            // Sentinel에게 현재 primary 주소를 묻고, failover 알림(+switch-master)을 받으면 새 primary로 재연결
+            case "sentinel" -> new RedisSentinelConfiguration(sentinelMaster, new HashSet<>(nodes(sentinelNodes)));
+            case "cluster" -> {
+                RedisClusterConfiguration cluster = new RedisClusterConfiguration(nodes(clusterNodes));
+                cluster.setMaxRedirects(clusterMaxRedirects);
+                yield cluster;
+            }
+            default -> throw new IllegalStateException("지원하지 않는 redis.topology: " + topology);
+        };
+    }
+
+    private static List<String> nodes(String nodes) {
+        return Arrays.stream(nodes.split(","))
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .toList();
+    }
+
+    // Redis에 데이터를 읽고 쓰는 고수준 (메서드만 호출해도 스프링이 알아서 처리해줌) 의 추상화 제공
+    // -> 키/값/HASH 모두 문자열(UTF-8)로 저장하는 StringRedisTemplate
+    //    (바이너리 값은 RedisDao의 *Raw 메서드로 byte[]를 그대로 주고받음)
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-        // Redis에 데이터를 읽고 쓰는 고수준 (메서드만 호출해도 스프링이 알아서 처리해줌) 의 추상화 제공
-        // => 데이터 처리 방식 설정
-        redisTemplate.setConnectionFactory(lettuceConnectionFactory());
+    @Primary
+    public StringRedisTemplate redisTemplate() {
+        return new StringRedisTemplate(lettuceConnectionFactory());
+    }
 
-        // 자바 객체를 Redis에 그대로 저장할 수 없음
-        // -> StringRedisSerializer를 사용해 문자열 형태로 저장하도록 설정
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
+    // 복제본 읽기를 끄면 primary 연결을 그대로 사용
+    @Bean
+    public StringRedisTemplate replicaRedisTemplate() {
+        return new StringRedisTemplate(replicaReads ? replicaLettuceConnectionFactory() : lettuceConnectionFactory());
+    }
 
-        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+    // 비동기(논블로킹) 호출용 템플릿: 같은 Lettuce 연결 팩토리 사용
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate() {
+        return new ReactiveStringRedisTemplate(lettuceConnectionFactory());
+    }
 
-        return redisTemplate;
+    // Pub/Sub 구독용 컨테이너 (블랙리스트 변경 알림 등)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory());
+        return container;
     }
 }
@@ -1,27 +1,126 @@
 package com.example.loginbe.controller;
 
-import com.example.loginbe.entity.User;
+import com.example.loginbe.dto.UserSearchResponseDto;
+import com.example.loginbe.dto.UserSummaryDto;
 import com.example.loginbe.repository.UserRepository;
+import com.example.loginbe.security.util.VerifiedTokenCache;
+import com.example.loginbe.service.UserExportService;
+import com.example.loginbe.service.UserImportJob;
+import com.example.loginbe.service.UserImportService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 public class AdminController {
     private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
 
     @GetMapping("/dashboard")
     public String adminOnly() {
         return "어드민 전용 대시보드입니다!";
     }
 
-    @GetMapping("/users")
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // 회원 검색: 키셋 페이지네이션 + DTO 프로젝션
+    // 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor를 전달
+    // /users: 이전의 전체 목록 조회(엔티티 전체 + password 해시)를 대신해 같은 요약/페이지 크기 제한 적용
+    @GetMapping({"/users", "/users/search"})
+    public UserSearchResponseDto searchUsers(@RequestParam(defaultValue = "0") long cursor,
+                                             @RequestParam(defaultValue = "50") int size,
+                                             @RequestParam(required = false) String email,
+                                             @RequestParam(required = false) String phone,
+                                             @RequestParam(required = false) String provider,
+                                             @RequestParam(required = false) String role) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<UserSummaryDto> users = userRepository.searchSummaries(cursor,
+                prefixPattern(email), prefixPattern(phone), provider, role,
+                PageRequest.ofSize(pageSize));
+
+        Long nextCursor = users.size() < pageSize ? null : users.get(users.size() - 1).getId();
+        return new UserSearchResponseDto(users, nextCursor);
+    }
+
+    // 앞부분 일치 검색용 LIKE 패턴 (입력의 %, _ 는 문자 그대로 검색)
+    private String prefixPattern(String prefix) {
+        if (prefix == null || prefix.isBlank()) return null;
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    // 회원 전체 덤프 (format=ndjson|csv, after=이어받을 마지막 id, gzip=압축 여부)
+    // 가상 스레드 위에서 응답 스트림에 바로 쓰므로 별도 비동기 처리 없이 블로킹으로 전송
+    @GetMapping("/users/export")
+    public void exportUsers(@RequestParam(defaultValue = "ndjson") String format,
+                            @RequestParam(defaultValue = "0") long after,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        // 헤더(첨부 파일, gzip)를 설정하기 전에 검증해야 400 응답이 그대로 전달됨
+        UserExportService.Format exportFormat;
+        try {
+            exportFormat = UserExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다: " + format);
+        }
+        String extension = exportFormat == UserExportService.Format.CSV ? "csv" : "ndjson";
+
+        response.setContentType(exportFormat == UserExportService.Format.CSV
+                ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"users-after-" + after + "." + extension + "\"");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        userExportService.export(exportFormat, after, gzip, response.getOutputStream());
+    }
+
+    // 회원 대량 가입 (CSV 업로드) -> 백그라운드로 처리하고 작업 id 반환
+    @PostMapping("/users/import")
+    public ResponseEntity<UserImportJob> importUsers(@RequestParam("file") MultipartFile file) throws IOException {
+        // 업로드 임시 파일은 요청이 끝나면 지워지므로 작업용 파일로 옮겨둠
+        Path target = Files.createTempFile("user-import-", ".csv");
+        file.transferTo(target);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(userImportService.start(target));
+    }
+
+    // 진행 상황 (processed/inserted/failed, 행 단위 오류, rows/s)
+    @GetMapping("/users/import/{jobId}")
+    public ResponseEntity<UserImportJob> importStatus(@PathVariable String jobId) {
+        UserImportJob job = userImportService.getJob(jobId);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
+    // 토큰 검증 캐시 적중률 확인용
+    @GetMapping("/token-cache")
+    public Map<String, Object> tokenCacheStats() {
+        return Map.of(
+                "enabled", verifiedTokenCache.isEnabled(),
+                "size", verifiedTokenCache.size(),
+                "hits", verifiedTokenCache.getHitCount(),
+                "misses", verifiedTokenCache.getMissCount(),
+                "evictions", verifiedTokenCache.getEvictionCount());
     }
 }
@@ -1,16 +1,25 @@
 package com.example.loginbe.controller;
 
 import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import com.example.loginbe.repository.RedisScripts;
 import com.example.loginbe.repository.UserRepository;
+import com.example.loginbe.security.ratelimit.RateLimiter;
+import com.example.loginbe.sms.SmsDeliveryStatus;
+import com.example.loginbe.sms.SmsDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -21,15 +30,21 @@ public class AuthController {
 
     private final RedisDao redisDao;
     private final UserRepository userRepository;
+    private final RateLimiter rateLimiter;
+    private final SmsDispatcher smsDispatcher;
 
     /**
      * 1. 인증번호 발송 API
      */
     @PostMapping("/send-code")
-    public ResponseEntity<String> sendVerificationCode(@RequestBody Map<String, String> body) {
+    public ResponseEntity<String> sendVerificationCode(@RequestBody Map<String, String> body,
+                                                       HttpServletRequest req) {
         String phone = body.get("phone");
         boolean isSocial = body.get("isSocial") != null;
 
+        // IP/휴대폰 번호별 발송 횟수 제한 (SMS 펌핑 방지), 초과 시 429
+        rateLimiter.check("send-code", req.getRemoteAddr(), "phone", phone);
+
         // 소셜 통합이 아닐 때만(즉, 일반 생 신규 가입일 때만) 중복 체크
         if (!isSocial && userRepository.findByPhone(phone).isPresent()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("이미 가입된 휴대폰 번호입니다.");
@@ -39,12 +54,24 @@ public class AuthController {
 
         // Redis에 휴대폰 번호를 키로 하여 인증번호 저장 (유효시간 3분 설정)
         // RedisDao의 setValues(String key, String data, Duration duration) 활용
-        redisDao.setValues("SMS:" + phone, verificationCode, Duration.ofMinutes(3));
+        redisDao.setValues(RedisKeys.smsCode(phone), verificationCode, Duration.ofMinutes(3));
+
+        // 발송은 대기열에 넣고 바로 응답 (업체 API 호출은 워커가 배치로 처리)
+        // -> 발송 결과는 X-Message-Id 헤더의 id로 조회
+        String messageId = smsDispatcher.enqueue(phone, "[loginbe] 인증번호 [" + verificationCode + "]를 3분 안에 입력해주세요.");
 
-        // 콘솔 출력 (실제 운영 시에는 외부 SMS API를 호출하여 문자를 발송해야 합니다)
-        System.out.println("휴대폰: " + phone + " / 인증번호: " + verificationCode);
+        return ResponseEntity.ok()
+                .header("X-Message-Id", messageId)
+                .body("인증번호가 발송되었습니다.");
+    }
 
-        return ResponseEntity.ok("인증번호가 발송되었습니다.");
+    /**
+     * 인증번호 문자 발송 상태 조회 (QUEUED, RETRYING, SENT, FAILED)
+     */
+    @GetMapping("/sms/{messageId}")
+    public ResponseEntity<SmsDeliveryStatus> getSmsStatus(@PathVariable String messageId) {
+        SmsDeliveryStatus status = smsDispatcher.getStatus(messageId);
+        return status == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(status);
     }
 
     /**
@@ -52,20 +79,22 @@ public class AuthController {
      * 별도의 API가 필요하다면 아래와 같이 작성합니다.
      */
     @PostMapping("/verify-code")
-    public ResponseEntity<?> verifyCode(@RequestBody Map<String, String> body) {
+    public ResponseEntity<?> verifyCode(@RequestBody Map<String, String> body,
+                                        HttpServletRequest req) {
         String phone = body.get("phone");
         String code = body.get("code");
 
-        String savedCode = (String) redisDao.getValues("SMS:" + phone);
-
-        if (savedCode != null && savedCode.equals(code)) {
-            // 1. 기존 인증번호는 삭제
-            redisDao.deleteValues("SMS:" + phone);
+        // 인증번호 대입 방지
+        rateLimiter.check("verify-code", req.getRemoteAddr(), "phone", phone);
 
-            // 2. [중요!] 계정 통합 API가 확인할 수 있도록 "인증 성공 플래그"를 Redis에 저장
-            // 이 한 줄이 없으면 link-social API에서 무조건 400 에러가 납니다.
-            redisDao.setValues("SMS_VERIFIED:" + phone, "true", Duration.ofMinutes(5));
+        // 인증번호 비교, 삭제, "인증 성공 플래그" 저장을 한 번의 원자적 Redis 호출로 처리
+        // -> 플래그가 없으면 link-social API에서 무조건 400 에러가 납니다.
+        Long matched = redisDao.execute(RedisScripts.CONSUME_CODE,
+                List.of(RedisKeys.smsCode(phone), RedisKeys.smsVerified(phone)),
+                code == null ? "" : code,
+                String.valueOf(Duration.ofMinutes(5).toMillis()));
 
+        if (matched != null && matched == 1) {
             return ResponseEntity.ok("인증 성공");
         } else {
             return ResponseEntity.badRequest().body("인증번호가 일치하지 않습니다.");
@@ -0,0 +1,50 @@
+package com.example.loginbe.controller;
+
+import com.example.loginbe.dto.TokenIntrospectionDto;
+import com.example.loginbe.dto.TokenIntrospectionRequestDto;
+import com.example.loginbe.service.TokenIntrospectionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+// 게이트웨이/내부 서비스 전용 API (사용자 토큰 대신 X-Internal-Token 헤더로 인증)
+@RestController
+@RequestMapping("/api/internal")
+public class InternalController {
+
+    private final TokenIntrospectionService introspectionService;
+    // 비어 있으면 내부 API 사용 안 함
+    private final byte[] clientSecret;
+
+    public InternalController(TokenIntrospectionService introspectionService,
+                              @Value("${introspection.client-secret:}") String clientSecret) {
+        this.introspectionService = introspectionService;
+        this.clientSecret = clientSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 토큰 여러 개를 한 번에 검사, 결과는 요청한 순서대로
+    @PostMapping("/introspect")
+    public ResponseEntity<List<TokenIntrospectionDto>> introspect(
+            @RequestHeader(value = "X-Internal-Token", required = false) String internalToken,
+            @RequestBody TokenIntrospectionRequestDto req) {
+        if (!authorized(internalToken)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(introspectionService.introspect(req.getTokens()));
+    }
+
+    // 비교 시간으로 값을 추측할 수 없도록 고정 시간 비교
+    private boolean authorized(String internalToken) {
+        return clientSecret.length > 0 && internalToken != null
+                && MessageDigest.isEqual(clientSecret, internalToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.loginbe.controller;
+
+import com.example.loginbe.security.util.SigningKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 토큰 검증용 공개키 목록 (ES256)
+// -> 다른 서비스는 이 응답을 캐싱해 두고 우리 서버 호출 없이 토큰을 직접 검증
+@RestController
+public class JwksController {
+
+    private final SigningKeyRing keyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(SigningKeyRing keyRing,
+                          @Value("${jwt.signing.jwks-max-age:10m}") Duration maxAge) {
+        this.keyRing = keyRing;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    // 키 링이 갱신될 때 만들어 둔 응답을 그대로 반환
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(keyRing.getJwks());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.loginbe.controller;
+
+import com.example.loginbe.dto.SessionResponseDto;
+import com.example.loginbe.security.filter.JwtAuthenticationFilter;
+import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.ParsedToken;
+import com.example.loginbe.security.util.RefreshSessionStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/private")
+@RequiredArgsConstructor
+public class PrivateController {
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshSessionStore sessionStore;
+
+    // 로그인한 사용자 정보 (토큰 클레임 기준, DB 조회 없음)
+    // 이메일 없는 카카오 회원은 database 모드에서 username(이메일)이 null -> Map.of 대신 null 허용 Map
+    @GetMapping("/me")
+    public Map<String, Object> me(@AuthenticationPrincipal UserDetails user) {
+        Map<String, Object> me = new LinkedHashMap<>();
+        me.put("username", user.getUsername());
+        me.put("roles", user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        return me;
+    }
+
+    // 토큰은 JwtAuthenticationFilter가 검증하면서 남긴 파싱 결과를 사용 (다시 검증하지 않음)
+
+    // 로그인된 기기 목록 (최근 로그인 순)
+    @GetMapping("/sessions")
+    public List<SessionResponseDto> sessions(
+            @RequestAttribute(JwtAuthenticationFilter.PARSED_TOKEN_ATTRIBUTE) ParsedToken parsed) {
+        return sessionStore.list(parsed.getSubject()).stream()
+                .map(session -> new SessionResponseDto(session.sessionId(), session.device(),
+                        session.createdAt(), session.expiresAt(),
+                        session.sessionId().equals(parsed.getSessionId())))
+                .toList();
+    }
+
+    // 특정 기기 로그아웃: 해당 기기의 refreshToken만 무효화 (accessToken은 남은 시간 동안 유효)
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> revokeSession(
+            @RequestAttribute(JwtAuthenticationFilter.PARSED_TOKEN_ATTRIBUTE) ParsedToken parsed,
+            @PathVariable String sessionId) {
+        return sessionStore.revoke(parsed.getSubject(), sessionId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    // 모든 기기 로그아웃: 세션 전체 삭제 + 요청한 기기의 accessToken 폐기
+    @DeleteMapping("/sessions")
+    public ResponseEntity<Void> revokeAllSessions(
+            @RequestHeader("Authorization") String authorization,
+            @RequestAttribute(JwtAuthenticationFilter.PARSED_TOKEN_ATTRIBUTE) ParsedToken parsed) {
+        String token = authorization.replace("Bearer ", "");
+        jwtTokenProvider.deleteRefreshToken(parsed.getSubject());
+        jwtTokenProvider.addToBlacklist(token, parsed);
+        return ResponseEntity.noContent().build();
+    }
+}
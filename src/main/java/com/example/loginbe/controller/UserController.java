@@ -5,10 +5,14 @@ import com.example.loginbe.dto.LoginResponseDto;
 import com.example.loginbe.dto.UserRequestDto;
 import com.example.loginbe.entity.User;
 import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
 import com.example.loginbe.repository.UserRepository;
+import com.example.loginbe.security.ratelimit.RateLimiter;
 import com.example.loginbe.service.KakaoOAuthService;
 import com.example.loginbe.service.UserService;
 import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.ParsedToken;
+import com.example.loginbe.security.util.SubjectType;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Map;
 import java.util.Optional;
@@ -30,13 +35,18 @@ public class UserController {
     private final UserRepository userRepository;
     private final RedisDao redisDao;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/signup")
     public ResponseEntity<?> signup(@RequestBody UserRequestDto req,
-                                                   HttpServletResponse res) {
+                                    HttpServletRequest httpReq,
+                                    HttpServletResponse res) {
         try {
-            LoginResponseDto tokens = userService.signup(req);
+            LoginResponseDto tokens = userService.signup(req, httpReq.getHeader("User-Agent"));
             return getRefreshCookie(res, tokens);
+        } catch (ResponseStatusException e) {
+            // 해싱 대기열 초과 등은 지정된 상태 코드(503) 그대로 응답
+            throw e;
         } catch (RuntimeException e) {
             // 중복 번호 등 비즈니스 로직 예외 발생 시 400 Bad Request와 메시지 반환
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -45,27 +55,34 @@ public class UserController {
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDto> login(@RequestBody LoginRequestDto req,
+                                                  HttpServletRequest httpReq,
                                                   HttpServletResponse res) {
-        LoginResponseDto tokens = userService.login(req);
+        // IP/이메일별 로그인 시도 횟수 제한 (DB 조회, BCrypt 전에 판정), 초과 시 429
+        rateLimiter.check("login", httpReq.getRemoteAddr(), "email", req.getEmail());
+
+        LoginResponseDto tokens = userService.login(req, httpReq.getHeader("User-Agent"));
 
         return getRefreshCookie(res, tokens);
     }
 
     @PostMapping("/kakao")
     public ResponseEntity<?> kakaoLogin(@RequestBody Map<String, String> body,
+                                        HttpServletRequest httpReq,
                                         HttpServletResponse res) {
         String code = body.get("code");
-        return ResponseEntity.ok(kakaoOAuthService.kakaoLogin(code, res));
+        return ResponseEntity.ok(kakaoOAuthService.kakaoLogin(code, httpReq.getHeader("User-Agent"), res));
     }
 
     @PostMapping("/link-social")
     @Transactional
-    public ResponseEntity<?> linkSocial(@RequestBody Map<String, String> body, HttpServletResponse response) { // response 추가
+    public ResponseEntity<?> linkSocial(@RequestBody Map<String, String> body, HttpServletRequest httpReq,
+                                        HttpServletResponse response) { // response 추가
+        String device = httpReq.getHeader("User-Agent");
         String phone = body.get("phone");
         String socialId = body.get("socialId");
 
         // 1. Redis 인증 확인
-        String verified = (String) redisDao.getValues("SMS_VERIFIED:" + phone);
+        String verified = redisDao.getValues(RedisKeys.smsVerified(phone));
         if (verified == null) return ResponseEntity.badRequest().body("인증이 필요합니다.");
 
         try {
@@ -86,30 +103,26 @@ public class UserController {
                 existingUser.setProvider("kakao");
                 userRepository.save(existingUser);
 
-                return generateLoginResponse(existingUser, response); // response 전달
+                return generateLoginResponse(existingUser, device, response); // response 전달
             } else {
                 User socialUser = userRepository.findBySocialIdAndProvider(socialId, "kakao")
                         .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
                 socialUser.setPhone(phone);
                 userRepository.save(socialUser);
 
-                return generateLoginResponse(socialUser, response); // response 전달
+                return generateLoginResponse(socialUser, device, response); // response 전달
             }
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("연결 실패: " + e.getMessage());
         }
     }
 
-    private ResponseEntity<?> generateLoginResponse(User user, HttpServletResponse response) {
-        // 1. 토큰 생성
+    private ResponseEntity<?> generateLoginResponse(User user, String device, HttpServletResponse response) {
+        // 1. 토큰 생성 (기기별 로그인 세션 하나 추가)
         // socialId를 기반으로 토큰을 생성하도록 설계된 기존 로직을 따릅니다.
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getSocialId(), user.getRole());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getSocialId(), user.getRole());
-
-        // 2. 응답 DTO 생성
-        LoginResponseDto tokens = new LoginResponseDto(accessToken, refreshToken);
+        LoginResponseDto tokens = jwtTokenProvider.issueTokens(user.getSocialId(), SubjectType.SOCIAL_ID, user.getRole(), device);
 
-        // 3. 리프레시 토큰을 쿠키에 저장 (기존에 정의하신 getRefreshCookie 활용)
+        // 2. 리프레시 토큰을 쿠키에 저장 (기존에 정의하신 getRefreshCookie 활용)
         return getRefreshCookie(response, tokens);
     }
 
@@ -124,34 +137,43 @@ public class UserController {
             }
         }
 
-        if (refreshToken == null || !jwtTokenProvider.validateToken(refreshToken)) {
+        // refreshToken은 한 번만 파싱해서 이후 검증에 재사용
+        ParsedToken parsed = jwtTokenProvider.parse(refreshToken);
+        if (!parsed.isValid()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 refreshToken 입니다.");
         }
 
-        if (jwtTokenProvider.isBlacklisted(refreshToken)) {
+        // 블랙리스트 확인 + 저장된 토큰 비교를 한 번의 Redis 호출로 처리
+        JwtTokenProvider.RefreshCheck check = jwtTokenProvider.checkRefreshToken(refreshToken, parsed);
+        if (check == JwtTokenProvider.RefreshCheck.BLACKLISTED) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그아웃된 토큰입니다.");
         }
 
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-        String role = jwtTokenProvider.getRoleFromToken(refreshToken);
-
-        if (!jwtTokenProvider.validateRefreshToken(refreshToken)) {
+        if (check == JwtTokenProvider.RefreshCheck.MISMATCH) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("서버의 토큰 정보와 일치하지 않습니다.");
         }
 
-        String newAccessToken = jwtTokenProvider.generateAccessToken(email, role);
+        String email = parsed.getSubject();
+        String role = parsed.getRole();
+
+        // 같은 로그인 세션(sid)으로 accessToken 재발급
+        String newAccessToken = jwtTokenProvider.generateAccessToken(email, parsed.getSubjectType(), role,
+                parsed.getSessionId());
 
         return ResponseEntity.ok(new LoginResponseDto(newAccessToken, null));
     }
 
     @PostMapping("/logout")
-    public String logout(@RequestHeader("Authorization") String accessToken,
-                         HttpServletResponse res) {
+    public ResponseEntity<String> logout(@RequestHeader("Authorization") String accessToken,
+                                         HttpServletResponse res) {
         String token = accessToken.replace("Bearer ", "");
-        String email = jwtTokenProvider.getEmailFromToken(token);
+        ParsedToken parsed = jwtTokenProvider.parse(token);
+        // 만료된 토큰은 로그아웃 허용, 서명이 틀리거나 형식이 잘못된 토큰은 401
+        if (parsed.getStatus() == ParsedToken.Status.INVALID) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 accessToken 입니다.");
+        }
 
-        jwtTokenProvider.deleteRefreshToken(email);
-        jwtTokenProvider.addToBlacklist(token);
+        jwtTokenProvider.logout(token, parsed);
 
         Cookie refreshCookie = new Cookie("refreshToken", null);
         refreshCookie.setHttpOnly(true);
@@ -159,7 +181,7 @@ public class UserController {
         refreshCookie.setPath("/");
         res.addCookie(refreshCookie);
 
-        return "로그아웃 성공";
+        return ResponseEntity.ok("로그아웃 성공");
     }
 
     private ResponseEntity<LoginResponseDto> getRefreshCookie(HttpServletResponse res,
@@ -0,0 +1,16 @@
+package com.example.loginbe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인된 기기 목록 조회용
+@Getter
+@AllArgsConstructor
+public class SessionResponseDto {
+    private String sessionId;
+    private String device;
+    private long createdAt;
+    private long expiresAt;
+    // 요청을 보낸 기기인지
+    private boolean current;
+}
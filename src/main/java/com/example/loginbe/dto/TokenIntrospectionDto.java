@@ -0,0 +1,27 @@
+package com.example.loginbe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 토큰 하나의 검사 결과 (요청한 순서대로 응답)
+@Getter
+@AllArgsConstructor
+public class TokenIntrospectionDto {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        REVOKED,
+        INVALID
+    }
+
+    // VALID 일 때만 true
+    private boolean active;
+    private Status status;
+    // INVALID 이면 subject/role/expiresAt 모두 null
+    private String subject;
+    private String subjectType;
+    private String role;
+    // 만료 시각 (epoch seconds)
+    private Long expiresAt;
+}
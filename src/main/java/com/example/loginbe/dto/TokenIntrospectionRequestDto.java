@@ -0,0 +1,16 @@
+package com.example.loginbe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenIntrospectionRequestDto {
+    private List<String> tokens;
+}
@@ -0,0 +1,16 @@
+package com.example.loginbe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 관리자 조회용 읽기 전용 프로젝션 (password 제외, 엔티티를 만들지 않음)
+@Getter
+@AllArgsConstructor
+public class UserSummaryDto {
+    private Long id;
+    private String username;
+    private String email;
+    private String phone;
+    private String provider;
+    private String role;
+}
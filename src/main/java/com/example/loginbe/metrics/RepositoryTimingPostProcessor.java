@@ -0,0 +1,25 @@
+package com.example.loginbe.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// JPA 리포지토리 호출 시간을 Server-Timing의 db 단계에 더함
+// (메서드별 타이머 spring.data.repository.invocations 는 Actuator가 자동으로 기록)
+@Component
+public class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    private static final RepositoryMethodInvocationListener LISTENER =
+            invocation -> ServerTiming.add(ServerTiming.DB, invocation.getDuration(TimeUnit.NANOSECONDS));
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(LISTENER));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.loginbe.metrics;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나의 단계별 소요 시간 (Server-Timing 헤더용)
+// - ServerTimingFilter가 켜져 있을 때만 요청 스레드에 기록 공간이 생기고, 꺼져 있으면 ThreadLocal 조회 한 번으로 끝
+// - 같은 단계가 여러 번 호출되면 합산 (예: 한 요청에서 Redis를 두 번 호출)
+public final class ServerTiming {
+
+    public static final String JWT = "jwt";
+    public static final String BLACKLIST = "blacklist";
+    public static final String USER = "user";
+    public static final String DB = "db";
+    public static final String REDIS = "redis";
+    public static final String BCRYPT = "bcrypt";
+    public static final String KAKAO = "kakao";
+
+    private static final int MAX_STAGES = 8;
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final String[] names = new String[MAX_STAGES];
+    private final long[] nanos = new long[MAX_STAGES];
+    private int size;
+
+    private ServerTiming() {
+    }
+
+    static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // 타이머에 기록하고, Server-Timing이 켜져 있으면 현재 요청의 단계에도 더함
+    public static void record(Timer timer, String stage, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        add(stage, elapsed);
+    }
+
+    public static void add(String stage, long elapsedNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.accumulate(stage, elapsedNanos);
+        }
+    }
+
+    private void accumulate(String stage, long elapsedNanos) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(stage)) {
+                nanos[i] += elapsedNanos;
+                return;
+            }
+        }
+        if (size < MAX_STAGES) {
+            names[size] = stage;
+            nanos[size++] = elapsedNanos;
+        }
+    }
+
+    // 예) jwt;dur=0.12, redis;dur=0.85, total;dur=3.40
+    String toHeaderValue() {
+        StringBuilder header = new StringBuilder(32 * (size + 1));
+        for (int i = 0; i < size; i++) {
+            appendMetric(header, names[i], nanos[i]);
+            header.append(", ");
+        }
+        appendMetric(header, "total", System.nanoTime() - startNanos);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long elapsedNanos) {
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", elapsedNanos / 1e6));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.loginbe.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 응답에 Server-Timing 헤더 추가 (브라우저 개발자 도구 Timing 탭에서 단계별 시간 확인)
+// 헤더는 본문보다 먼저 나가야 하므로 응답이 커밋되는 순간에 추가
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "metrics.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String HEADER = "Server-Timing";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.begin();
+        OnCommittedResponseWrapper wrapper = new OnCommittedResponseWrapper(res) {
+            @Override
+            protected void onResponseCommitted() {
+                res.setHeader(HEADER, timing.toHeaderValue());
+            }
+        };
+
+        try {
+            filterChain.doFilter(req, wrapper);
+        } finally {
+            ServerTiming.end();
+            // 본문 없이 끝난 응답 (204, 401 등)
+            if (!res.isCommitted()) {
+                res.setHeader(HEADER, timing.toHeaderValue());
+            }
+        }
+    }
+}
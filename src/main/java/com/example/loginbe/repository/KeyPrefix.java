@@ -0,0 +1,31 @@
+package com.example.loginbe.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 접두사를 UTF-8 바이트로 미리 만들어 두고 byte[] 키를 바로 생성
+// -> "접두사 + id" 문자열을 만든 뒤 다시 인코딩하는 복사 없이 배열 하나만 할당
+public final class KeyPrefix {
+
+    private final String prefix;
+    private final byte[] bytes;
+
+    public KeyPrefix(String prefix) {
+        this.prefix = prefix;
+        this.bytes = prefix.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte[] key(String id) {
+        int length = id.length();
+        byte[] key = Arrays.copyOf(bytes, bytes.length + length);
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if (c >= 0x80) {
+                // 토큰 id는 ASCII(base64url, hex)라 여기까지 오지 않음, 이메일 등은 UTF-8로 인코딩
+                return (prefix + id).getBytes(StandardCharsets.UTF_8);
+            }
+            key[bytes.length + i] = (byte) c;
+        }
+        return key;
+    }
+}
@@ -1,39 +1,393 @@
 package com.example.loginbe.repository;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import com.example.loginbe.metrics.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Component
 public class RedisDao {
 
-    private final RedisTemplate<String,String> redisTemplate;
+    // 키/값 모두 문자열, 요청마다 호출되는 조회는 *Raw 메서드로 byte[]를 그대로 주고받음
+    private final StringRedisTemplate redisTemplate;
     private final ValueOperations<String,String> values;
+    // 복제본에서 읽어도 되는 조회용 (복제 지연만큼 이전 값이 보일 수 있음)
+    private final StringRedisTemplate replicaTemplate;
+    private final ValueOperations<String,String> replicaValues;
+    // 클러스터면 여러 슬롯에 걸친 스크립트를 실행할 수 없음
+    private final boolean cluster;
+    // Lettuce의 비동기 통신을 그대로 사용하는 논블로킹 템플릿
+    private final ReactiveStringRedisTemplate reactiveTemplate;
 
-    public RedisDao(RedisTemplate<String, Object> redisTemplate) {
-        this.redisTemplate = (RedisTemplate<String, String>) (Object) redisTemplate;
-        this.values = this.redisTemplate.opsForValue();
+    // 동기 명령별 왕복 시간 (비동기 명령은 Lettuce 자체 지표 lettuce.command.* 로 확인)
+    private final Timer setTimer;
+    private final Timer getTimer;
+    private final Timer deleteTimer;
+    private final Timer multiGetTimer;
+    private final Timer hashTimer;
+    private final Timer pipelineTimer;
+    private final Timer ttlTimer;
+    private final Timer scanTimer;
+    private final Timer publishTimer;
+    private final Timer scriptTimer;
+    private final Timer streamTimer;
+
+    @Autowired
+    public RedisDao(StringRedisTemplate redisTemplate,
+                    @Qualifier("replicaRedisTemplate") StringRedisTemplate replicaTemplate,
+                    ReactiveStringRedisTemplate reactiveTemplate,
+                    MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.values = redisTemplate.opsForValue();
+        this.replicaTemplate = replicaTemplate;
+        this.replicaValues = replicaTemplate.opsForValue();
+        this.cluster = redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory
+                && factory.isClusterAware();
+        this.reactiveTemplate = reactiveTemplate;
+        this.setTimer = commandTimer(meterRegistry, "set");
+        this.getTimer = commandTimer(meterRegistry, "get");
+        this.deleteTimer = commandTimer(meterRegistry, "delete");
+        this.multiGetTimer = commandTimer(meterRegistry, "mget");
+        this.hashTimer = commandTimer(meterRegistry, "hash");
+        this.pipelineTimer = commandTimer(meterRegistry, "pipeline");
+        this.ttlTimer = commandTimer(meterRegistry, "ttl");
+        this.scanTimer = commandTimer(meterRegistry, "scan");
+        this.publishTimer = commandTimer(meterRegistry, "publish");
+        this.scriptTimer = commandTimer(meterRegistry, "script");
+        this.streamTimer = commandTimer(meterRegistry, "stream");
+    }
+
+    // 복제본 없이 primary에서만 읽음 (테스트, 벤치마크용)
+    public RedisDao(StringRedisTemplate redisTemplate,
+                    ReactiveStringRedisTemplate reactiveTemplate,
+                    MeterRegistry meterRegistry) {
+        this(redisTemplate, redisTemplate, reactiveTemplate, meterRegistry);
+    }
+
+    private static Timer commandTimer(MeterRegistry registry, String command) {
+        return Timer.builder("redis.dao").tag("command", command).register(registry);
+    }
+
+    private <T> T timed(Timer timer, Supplier<T> command) {
+        long start = System.nanoTime();
+        try {
+            return command.get();
+        } finally {
+            ServerTiming.record(timer, ServerTiming.REDIS, start);
+        }
+    }
+
+    private void timed(Timer timer, Runnable command) {
+        long start = System.nanoTime();
+        try {
+            command.run();
+        } finally {
+            ServerTiming.record(timer, ServerTiming.REDIS, start);
+        }
     }
 
     // 기본 데이터 저장
     public void setValues(String key, String data) {
-        values.set(key, data);
+        timed(setTimer, () -> values.set(key, data));
     }
 
     // 만료 시간이 있는 데이터 저장 (주로 Refresh Token 저장)
     public void setValues(String key, String data, Duration duration) {
-        values.set(key, data, duration);
+        timed(setTimer, () -> values.set(key, data, duration));
     }
 
     // 데이터 조회 (Refresh Token 검증 시)
-    public Object getValues(String key) {
-        return values.get(key);
+    public String getValues(String key) {
+        return timed(getTimer, () -> values.get(key));
+    }
+
+    // 복제본에서 조회 (발송 상태처럼 잠깐 이전 값을 읽어도 되는 경우만, 블랙리스트는 primary)
+    public String getReplicaValues(String key) {
+        return timed(getTimer, () -> replicaValues.get(key));
+    }
+
+    // 키 존재 여부만 확인 (EXISTS, 값을 받지 않음)
+    public boolean existsRaw(byte[] key) {
+        Boolean exists = timed(getTimer, () -> redisTemplate.execute(
+                (RedisCallback<Boolean>) connection -> connection.keyCommands().exists(key)));
+        return Boolean.TRUE.equals(exists);
     }
 
     // 데이터 삭제 (Refresh Token 삭제 시)
     public void deleteValues(String key) {
-        redisTemplate.delete(key);
+        timed(deleteTimer, () -> redisTemplate.delete(key));
+    }
+
+    // 여러 키 한 번에 삭제 (DEL 한 번)
+    public long deleteValues(Collection<String> keys) {
+        Long deleted = timed(deleteTimer, () -> redisTemplate.delete(keys));
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 여러 키 한 번에 조회 (MGET 한 번), 없는 키는 null
+    public List<String> multiGet(List<String> keys) {
+        if (keys.isEmpty()) return List.of();
+        return timed(multiGetTimer, () -> values.multiGet(keys));
+    }
+
+    // MGET, 값은 byte[] 그대로 (없는 키는 null)
+    public List<byte[]> multiGetRaw(List<byte[]> keys) {
+        if (keys.isEmpty()) return List.of();
+        byte[][] rawKeys = keys.toArray(byte[][]::new);
+        return timed(multiGetTimer, () -> redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys)));
+    }
+
+    // HASH 전체 조회 (HGETALL 한 번), 키가 없으면 빈 Map
+    public Map<String, String> getHashEntries(String key) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        return timed(hashTimer, () -> hash.entries(key));
+    }
+
+    // HASH 필드 하나 조회 (HGET), 없으면 null
+    public String getHashValue(String key, String field) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        return timed(hashTimer, () -> hash.get(key, field));
+    }
+
+    // 바이너리 값 HASH 조회 (문자열 변환 없이 byte[] 그대로)
+    public byte[] getHashValueRaw(byte[] key, byte[] field) {
+        return timed(hashTimer, () -> redisTemplate.execute(
+                (RedisCallback<byte[]>) connection -> connection.hashCommands().hGet(key, field)));
+    }
+
+    public Map<byte[], byte[]> getHashEntriesRaw(byte[] key) {
+        Map<byte[], byte[]> entries = timed(hashTimer, () -> redisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key)));
+        return entries == null ? Map.of() : entries;
+    }
+
+    // HASH 필드 하나 저장 (HSET)
+    public void putHashValue(String key, String field, String value) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        timed(hashTimer, () -> hash.put(key, field, value));
+    }
+
+    // HASH 필드 하나 삭제 (HDEL), 삭제되었으면 true
+    public boolean deleteHashField(String key, String field) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Long deleted = timed(hashTimer, () -> hash.delete(key, field));
+        return deleted != null && deleted > 0;
+    }
+
+    // 만료 시간이 있는 여러 데이터를 파이프라인으로 저장 (응답을 기다리지 않고 연속 전송)
+    public void setValuesPipelined(Map<String, String> entries, Duration duration) {
+        if (entries.isEmpty()) return;
+
+        timed(pipelineTimer, () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                ValueOperations<String, String> ops = (ValueOperations<String, String>) operations.opsForValue();
+                entries.forEach((key, data) -> ops.set(key, data, duration));
+                return null;
+            }
+        }));
+    }
+
+    // ===== 비동기 API (요청 스레드를 블로킹하지 않음) =====
+
+    public CompletableFuture<String> getValuesAsync(String key) {
+        return reactiveTemplate.opsForValue().get(key).toFuture();
+    }
+
+    public CompletableFuture<Boolean> setValuesAsync(String key, String data, Duration duration) {
+        return reactiveTemplate.opsForValue().set(key, data, duration).toFuture();
+    }
+
+    public CompletableFuture<List<String>> multiGetAsync(List<String> keys) {
+        return reactiveTemplate.opsForValue().multiGet(keys).toFuture();
+    }
+
+    public CompletableFuture<Long> deleteValuesAsync(String... keys) {
+        return reactiveTemplate.delete(keys).toFuture();
+    }
+
+    // 남은 만료 시간 (ms), 키가 없거나 만료가 없으면 음수 (복제본에서 조회)
+    public long getExpireMillis(String key) {
+        Long expire = timed(ttlTimer, () -> replicaTemplate.getExpire(key, TimeUnit.MILLISECONDS));
+        return expire == null ? -2 : expire;
+    }
+
+    // 여러 키의 남은 만료 시간을 파이프라인 한 번으로 조회 (PTTL, 복제본), 순서는 keys와 같음
+    public List<Long> getExpireMillis(List<String> keys) {
+        if (keys.isEmpty()) return List.of();
+        List<Object> results = timed(pipelineTimer, () -> replicaTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    for (String key : keys) {
+                        connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                }));
+        List<Long> expires = new ArrayList<>(results.size());
+        for (Object result : results) {
+            expires.add(result instanceof Long expire ? expire : -2L);
+        }
+        return expires;
+    }
+
+    // KEYS 대신 SCAN으로 패턴에 맞는 키 조회 (Redis를 블로킹하지 않음, 클러스터가 아니면 복제본에서 조회)
+    public List<String> scanKeys(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+        timed(scanTimer, () -> {
+            if (cluster) {
+                scanClusterKeys(options, keys);
+                return;
+            }
+            try (Cursor<String> cursor = replicaTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+        });
+        return keys;
+    }
+
+    // 클러스터는 SCAN 커서가 노드마다 따로이므로 master 노드를 하나씩 순회
+    private void scanClusterKeys(ScanOptions options, List<String> keys) {
+        try (RedisClusterConnection connection = redisTemplate.getRequiredConnectionFactory().getClusterConnection()) {
+            for (RedisClusterNode node : connection.clusterGetNodes()) {
+                if (!node.isMaster()) continue;
+                try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                    cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+                }
+            }
+        }
+    }
+
+    public boolean isCluster() {
+        return cluster;
+    }
+
+    // Pub/Sub 채널로 메시지 발행
+    public void publish(String channel, String message) {
+        timed(publishTimer, () -> redisTemplate.convertAndSend(channel, message));
+    }
+
+    // Stream consumer group 생성 (Stream이 없으면 같이 만들고, group이 이미 있으면 무시)
+    public void createStreamGroup(String key, String group) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(rawKey, group, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    // 다른 consumer가 가져간 뒤 minIdle 이상 처리하지 못한 pending 메시지 (XPENDING), 전달 횟수 포함
+    // excludeConsumer(자기 자신)의 메시지는 아직 처리 중이므로 제외
+    public List<PendingMessage> getIdlePendingMessages(String key, String group, String excludeConsumer,
+                                                       Duration minIdle, long count) {
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        return timed(streamTimer, () -> {
+            List<PendingMessage> idle = new ArrayList<>();
+            for (Map.Entry<String, Long> consumer : stream.pending(key, group).getPendingMessagesPerConsumer().entrySet()) {
+                if (idle.size() >= count) break;
+                if (consumer.getKey().equals(excludeConsumer) || consumer.getValue() == 0) continue;
+                stream.pending(key, Consumer.from(group, consumer.getKey()), Range.unbounded(), count - idle.size())
+                        .stream()
+                        .filter(pending -> pending.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                        .forEach(idle::add);
+            }
+            return idle;
+        });
+    }
+
+    // pending 메시지가 없고 minIdle 이상 읽지 않은 consumer 삭제 (XINFO CONSUMERS + XGROUP DELCONSUMER), 반환: 삭제 수
+    // -> 아직 살아 있는 consumer여도 pending이 없으므로 잃는 메시지가 없고, 다음 읽기에서 다시 생성됨
+    public int deleteIdleStreamConsumers(String key, String group, String excludeConsumer, Duration minIdle) {
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        return timed(streamTimer, () -> {
+            int deleted = 0;
+            for (StreamInfo.XInfoConsumer consumer : stream.consumers(key, group)) {
+                if (consumer.consumerName().equals(excludeConsumer) || consumer.pendingCount() > 0
+                        || consumer.idleTimeMs() < minIdle.toMillis()) continue;
+                if (Boolean.TRUE.equals(stream.deleteConsumer(key, Consumer.from(group, consumer.consumerName())))) {
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+    }
+
+    // pending 메시지를 이 consumer로 가져옴 (XCLAIM, 그 사이 다른 consumer가 처리했으면 빠짐)
+    public List<MapRecord<String, String, String>> claimStreamRecords(String key, String group, String consumer,
+                                                                     Duration minIdle, List<RecordId> ids) {
+        if (ids.isEmpty()) return List.of();
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        return timed(streamTimer, () -> stream.claim(key, group, consumer, minIdle, ids.toArray(RecordId[]::new)));
+    }
+
+    // Lua 스크립트 실행 (인자는 모두 문자열로 전달)
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+        return timed(scriptTimer, () -> redisTemplate.execute(script, keys, (Object[]) args));
+    }
+
+    // 바이너리 값을 인자로 넘기는 스크립트 실행 (EVALSHA, 스크립트가 캐시에 없으면 EVAL)
+    // -> 결과는 숫자/상태값만 사용 (bulk 응답은 byte[] 그대로 반환)
+    public <T> T executeRaw(RedisScript<T> script, List<byte[]> keys, byte[]... args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i);
+        }
+        System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+
+        return timed(scriptTimer, () -> redisTemplate.execute((RedisCallback<T>) connection -> {
+            try {
+                return connection.scriptingCommands().evalSha(script.getSha1(), returnType, keys.size(), keysAndArgs);
+            } catch (DataAccessException e) {
+                String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                if (message == null || !message.contains("NOSCRIPT")) {
+                    throw e;
+                }
+                return connection.scriptingCommands().eval(script.getScriptAsString().getBytes(StandardCharsets.UTF_8),
+                        returnType, keys.size(), keysAndArgs);
+            }
+        }));
     }
 }
@@ -0,0 +1,73 @@
+package com.example.loginbe.repository;
+
+// Redis 키 네임스페이스
+// -> 토큰 원문 대신 고정 길이 id(jti 또는 다이제스트)만 키/값에 저장
+public final class RedisKeys {
+
+    // 폐기된 accessToken: auth:bl:<tokenId> -> "1"
+    public static final String BLACKLIST = "auth:bl:";
+    // 사용자별 로그인 세션: auth:sess:<subject> -> HASH (sid -> 세션 정보, 형식은 RefreshSession 참고)
+    public static final String SESSIONS = "auth:sess:";
+    // 세션 도입 전 사용자당 하나뿐이던 refreshToken: auth:rt:<subject> -> refreshToken의 jti
+    public static final String REFRESH_TOKEN = "auth:rt:";
+
+    // ES256 서명 공개키 (모든 노드 공유): auth:jwks -> HASH (kid -> "x|y|제거 시각")
+    public static final String JWKS = "auth:jwks";
+
+    // SMS 발송 대기열 (Stream), 발송 상태: <stream>:status:<메시지 id> -> "상태|시도 횟수|갱신 시각|오류"
+    // -> 해시 태그({sms})로 Stream과 상태 키를 같은 슬롯에 두어 스크립트 하나로 함께 처리
+    public static final String SMS_STREAM = "{sms}:outbox";
+
+    // 요청 횟수 제한: rl:{<endpoint>:<dimension>:<value>} -> 요청 시각 ZSET
+    // -> 값마다 해시 태그를 달아 클러스터의 슬롯에 고르게 분산 (endpoint로 묶으면 로그인 키가 모두 한 샤드에 몰림)
+    //    클러스터가 아니면 한 요청의 키를 스크립트 하나로 판정, 클러스터면 키별로 판정
+    public static final String RATE_LIMIT = "rl:";
+
+    // SMS 인증 코드: SMS:{<phone>} -> 코드, 인증 완료 표시: SMS_VERIFIED:{<phone>} -> "true"
+    // -> 코드 확인 스크립트가 두 키를 함께 다루므로 전화번호로 해시 태그
+    public static final String SMS_CODE = "SMS:";
+    public static final String SMS_VERIFIED = "SMS_VERIFIED:";
+
+    // 요청마다 조회하는 키는 byte[]로 바로 생성 (RedisDao의 *Raw 메서드용)
+    public static final KeyPrefix BLACKLIST_KEY = new KeyPrefix(BLACKLIST);
+    public static final KeyPrefix SESSIONS_KEY = new KeyPrefix(SESSIONS);
+
+    // 이전 키 형식 (기존 키가 만료될 때까지만 조회)
+    // blacklist:<accessToken 원문>, <subject> -> refreshToken 원문
+    public static final String LEGACY_BLACKLIST = "blacklist:";
+
+    private RedisKeys() {
+    }
+
+    public static String blacklist(String tokenId) {
+        return BLACKLIST + tokenId;
+    }
+
+    public static String sessions(String subject) {
+        return SESSIONS + subject;
+    }
+
+    public static String refreshToken(String subject) {
+        return REFRESH_TOKEN + subject;
+    }
+
+    public static String smsStatus(String stream, String messageId) {
+        return stream + ":status:" + messageId;
+    }
+
+    public static String rateLimit(String endpoint, String dimension, String value) {
+        return RATE_LIMIT + "{" + endpoint + ":" + dimension + ":" + value + "}";
+    }
+
+    public static String smsCode(String phone) {
+        return SMS_CODE + "{" + phone + "}";
+    }
+
+    public static String smsVerified(String phone) {
+        return SMS_VERIFIED + "{" + phone + "}";
+    }
+
+    public static String legacyBlacklist(String token) {
+        return LEGACY_BLACKLIST + token;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.loginbe.repository;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+// 여러 번의 Redis 호출을 한 번의 원자적 호출로 묶는 Lua 스크립트
+// -> SHA1은 한 번만 계산되고 EVALSHA로 호출 (서버에 없으면 EVAL로 자동 재시도)
+public final class RedisScripts {
+
+    public static final RedisScript<Long> CONSUME_CODE = load("scripts/consume_code.lua");
+    public static final RedisScript<Long> CHECK_REFRESH = load("scripts/check_refresh.lua");
+    public static final RedisScript<Long> LOGOUT = load("scripts/logout.lua");
+    public static final RedisScript<Long> ADD_SESSION = load("scripts/add_session.lua");
+    public static final RedisScript<Long> SMS_ENQUEUE = load("scripts/sms_enqueue.lua");
+    public static final RedisScript<Long> SMS_COMPLETE = load("scripts/sms_complete.lua");
+    public static final RedisScript<Long> RATE_LIMIT = load("scripts/rate_limit.lua");
+
+    private RedisScripts() {
+    }
+
+    private static RedisScript<Long> load(String path) {
+        return load(path, Long.class);
+    }
+
+    private static <T> RedisScript<T> load(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(resultType);
+        return script;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.loginbe.repository;
+
+import com.example.loginbe.dto.UserSummaryDto;
+import com.example.loginbe.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// JPA로 처리하기 무거운 대량 조회/저장 전용 (영속성 컨텍스트 없이 JDBC 직접 사용)
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcDao {
+
+    private static final String STREAM_SQL = """
+            select id, username, email, phone, provider, role
+            from `user`
+            where id > ?
+            order by id asc
+            """;
+
+    private static final String INSERT_SQL = """
+            insert into `user` (username, email, phone, password, provider, social_id, role)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // id 순서대로 한 행씩 콜백으로 전달 (전체 결과를 메모리에 올리지 않음)
+    // -> MySQL은 useCursorFetch=true 일 때 fetchSize 만큼씩 서버 커서에서 가져옴
+    public void streamSummaries(long afterId, int fetchSize, Consumer<UserSummaryDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_SQL);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, afterId);
+            return ps;
+        }, rs -> {
+            consumer.accept(new UserSummaryDto(
+                    rs.getLong("id"),
+                    rs.getString("username"),
+                    rs.getString("email"),
+                    rs.getString("phone"),
+                    rs.getString("provider"),
+                    rs.getString("role")));
+        });
+    }
+
+    // 이미 가입된 값만 골라서 반환 (IN 절 한 번)
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExisting("email", emails);
+    }
+
+    public Set<String> findExistingPhones(Collection<String> phones) {
+        return findExisting("phone", phones);
+    }
+
+    public Set<String> findExistingSocialIds(Collection<String> socialIds) {
+        return findExisting("social_id", socialIds);
+    }
+
+    // column은 위 메서드에서 고정된 값만 전달됨
+    private Set<String> findExisting(String column, Collection<String> values) {
+        if (values.isEmpty()) return Set.of();
+        String placeholders = String.join(",", Collections.nCopies(values.size(), "?"));
+        String sql = "select " + column + " from `user` where " + column + " in (" + placeholders + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, values.toArray()));
+    }
+
+    // JDBC 배치 insert
+    // -> IDENTITY 전략이라 Hibernate는 insert를 배치로 묶지 못하므로 JDBC로 직접 실행
+    // -> MySQL은 rewriteBatchedStatements=true 일 때 여러 행을 하나의 multi-row insert로 전송
+    public void batchInsert(List<User> users, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, batchSize, (ps, user) -> bindUser(ps, user));
+    }
+
+    public void insert(User user) {
+        jdbcTemplate.update(INSERT_SQL, ps -> bindUser(ps, user));
+    }
+
+    private void bindUser(PreparedStatement ps, User user) throws SQLException {
+        ps.setString(1, user.getUsername());
+        ps.setString(2, user.getEmail());
+        ps.setString(3, user.getPhone());
+        ps.setString(4, user.getPassword());
+        ps.setString(5, user.getProvider());
+        ps.setString(6, user.getSocialId());
+        ps.setString(7, user.getRole());
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.loginbe.repository;
 
+import com.example.loginbe.dto.UserSummaryDto;
 import com.example.loginbe.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +15,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findBySocialId(String socialId);
     Optional<User> findByPhone(String phone);
     Optional<User> findBySocialIdAndProvider(String socialId, String provider);
+
+    // 키셋(seek) 페이지네이션: OFFSET 없이 "id > cursor" 로 다음 페이지 조회
+    // -> 몇 번째 페이지든 PK 인덱스에서 바로 시작하므로 페이지당 비용이 일정
+    // 필터는 null이면 무시, 결과는 DTO 프로젝션 (엔티티/password 로딩 없음)
+    @Query("""
+            select new com.example.loginbe.dto.UserSummaryDto(u.id, u.username, u.email, u.phone, u.provider, u.role)
+            from User u
+            where u.id > :cursor
+              and (:emailPrefix is null or u.email like :emailPrefix escape '!')
+              and (:phonePrefix is null or u.phone like :phonePrefix escape '!')
+              and (:provider is null or u.provider = :provider)
+              and (:role is null or u.role = :role)
+            order by u.id asc
+            """)
+    List<UserSummaryDto> searchSummaries(@Param("cursor") long cursor,
+                                         @Param("emailPrefix") String emailPrefix,
+                                         @Param("phonePrefix") String phonePrefix,
+                                         @Param("provider") String provider,
+                                         @Param("role") String role,
+                                         Pageable pageable);
 }
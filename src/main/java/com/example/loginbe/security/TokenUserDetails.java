@@ -0,0 +1,56 @@
+package com.example.loginbe.security;
+
+import com.example.loginbe.entity.User;
+import com.example.loginbe.security.util.SubjectType;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 검증된 토큰 클레임만으로 만든 가벼운 principal
+// -> 요청마다 DB를 조회하지 않고, User 엔티티가 실제로 필요할 때만 한 번 조회
+public class TokenUserDetails implements UserDetails {
+    private final String subject;
+    private final SubjectType subjectType;
+    private final List<GrantedAuthority> authorities;
+    private final Supplier<User> userLoader;
+    private User user;
+
+    public TokenUserDetails(String subject, SubjectType subjectType, String role, Supplier<User> userLoader) {
+        this.subject = subject;
+        this.subjectType = subjectType;
+        this.authorities = List.of(new SimpleGrantedAuthority(role));
+        this.userLoader = userLoader;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public @Nullable String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return subject;
+    }
+
+    public SubjectType getSubjectType() {
+        return subjectType;
+    }
+
+    // 컨트롤러에서 엔티티를 요청할 때 처음 한 번만 조회
+    public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.loginbe.security.config;
 
 import com.example.loginbe.security.filter.JwtAuthenticationFilter;
+import com.example.loginbe.security.util.BCryptCostCalibrator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -29,6 +30,20 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins}")
     private List<String> allowedOrigins;
 
+    // 고정 cost (target-millis가 0 이하일 때 사용)
+    @Value("${password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // 목표 해싱 시간: 0보다 크면 시작 시 서버 성능에 맞춰 cost 자동 결정
+    @Value("${password.bcrypt.target-millis:0}")
+    private long bcryptTargetMillis;
+
+    @Value("${password.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${password.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -44,6 +59,11 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/private/**").hasAnyRole("USER", "ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
+                        // 내부 API는 컨트롤러에서 X-Internal-Token으로 인증
+                        .requestMatchers("/api/internal/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                         // 위에서 정의한 경로 외에 다른 모든 요청은 인증 필요
                 ).addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -55,7 +75,11 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptTargetMillis > 0
+                ? BCryptCostCalibrator.calibrate(bcryptTargetMillis, bcryptMinStrength, bcryptMaxStrength)
+                : bcryptStrength;
+        // 저장된 해시의 cost가 이보다 낮으면 로그인 성공 시 다시 해싱 (upgradeEncoding)
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -1,29 +1,63 @@
 package com.example.loginbe.security.filter;
 
+import com.example.loginbe.metrics.ServerTiming;
 import com.example.loginbe.service.CustomUserDetailsService;
 import com.example.loginbe.security.util.JwtTokenProvider;
-import io.jsonwebtoken.ExpiredJwtException;
+import com.example.loginbe.security.util.ParsedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 검증이 끝난 토큰의 파싱 결과 (컨트롤러에서 다시 검증하지 않고 사용)
+    public static final String PARSED_TOKEN_ATTRIBUTE = "parsedToken";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
 
+    // 토큰이 있는 요청의 필터 처리 시간 (결과별), 블랙리스트 조회/사용자 정보 로딩 시간
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+    private final Timer blacklistedTimer;
+    private final Timer blacklistLookupTimer;
+    private final Timer userLoadTimer;
+
+    // database(기본): 요청마다 사용자 조회, claims: 토큰 클레임으로 인증 (DB 조회 없음, 권한 변경은 토큰 만료 후 반영)
+    @Value("${jwt.auth-mode:database}")
+    private String authMode;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   CustomUserDetailsService userDetailsService,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.validTimer = filterTimer(meterRegistry, "valid");
+        this.expiredTimer = filterTimer(meterRegistry, "expired");
+        this.invalidTimer = filterTimer(meterRegistry, "invalid");
+        this.blacklistedTimer = filterTimer(meterRegistry, "blacklisted");
+        this.blacklistLookupTimer = Timer.builder("auth.blacklist.lookup").register(meterRegistry);
+        this.userLoadTimer = Timer.builder("auth.user.load").register(meterRegistry);
+    }
+
+    private static Timer filterTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("auth.filter").tag("outcome", outcome).register(registry);
+    }
+
     @Override
     protected void doFilterInternal (HttpServletRequest req, HttpServletResponse res,
                                      FilterChain filterChain)
@@ -32,33 +66,53 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(req);
         // HTTP 헤더에서 토큰을 추출함
 
-        try {
-            if (token != null &&  jwtTokenProvider.validateToken(token)) { // 토큰 존재 및 유효성 검사
-                if (jwtTokenProvider.isBlacklisted(token)) {
+        if (token != null) {
+            long start = System.nanoTime();
+            // 서명 검증과 클레임 추출을 한 번에 처리
+            ParsedToken parsed = jwtTokenProvider.parse(token);
+
+            if (parsed.isValid()) { // 토큰 유효성 검사
+                long lookupStart = System.nanoTime();
+                boolean blacklisted = jwtTokenProvider.isBlacklisted(token, parsed);
+                ServerTiming.record(blacklistLookupTimer, ServerTiming.BLACKLIST, lookupStart);
+                if (blacklisted) {
+                    blacklistedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                     res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     return;
                 }
-                String identifier = jwtTokenProvider.getEmailFromToken(token);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(identifier);
+                long loadStart = System.nanoTime();
+                UserDetails userDetails = loadUserDetails(parsed);
+                ServerTiming.record(userLoadTimer, ServerTiming.USER, loadStart);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                req.setAttribute(PARSED_TOKEN_ATTRIBUTE, parsed);
                 // 검증이 끝난 사용자 정보를 SecurityContext에 담아둠
                 // => 컨트롤러에서 사용자 정보를 원할 때 Spring에서 바로 응답 가능
+                validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } else if (parsed.isExpired()) {
+                req.setAttribute("exception", "EXPIRED_TOKEN");
+                expiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } else {
+                req.setAttribute("exception", "INVALID_TOKEN");
+                invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             }
-        } catch (ExpiredJwtException e) {
-            req.setAttribute("exception", "EXPIRED_TOKEN");
-        } catch (JwtException e) {
-            req.setAttribute("exception", "INVALID_TOKEN");
         }
 
         filterChain.doFilter(req, res);
     }
 
+    private UserDetails loadUserDetails(ParsedToken parsed) {
+        if ("claims".equals(authMode) && parsed.getRole() != null) {
+            return userDetailsService.loadUserFromClaims(parsed);
+        }
+        return userDetailsService.loadUserBySubject(parsed.getSubject(), parsed.getSubjectType());
+    }
+
     // 순수 토큰 문자열 추출
     private String resolveToken (HttpServletRequest req) {
         String bearer = req.getHeader("Authorization");
@@ -0,0 +1,27 @@
+package com.example.loginbe.security.ratelimit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 429 Too Many Requests + Retry-After(초) 헤더
+public class RateLimitExceededException extends ResponseStatusException {
+
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(long retryAfterMillis) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        return headers;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.loginbe.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// application.yml의 rate-limit 설정
+// rate-limit.endpoints.<endpoint>.<dimension> = { limit, window }
+// 예) rate-limit.endpoints.login.ip = { limit: 20, window: 1m }
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 로컬 차단 목록 최대 크기 (초과 시 만료된 항목부터 정리)
+    private int localBlockMaxSize = 100_000;
+
+    private Map<String, Map<String, Rule>> endpoints = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private int limit;
+        private Duration window;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.loginbe.security.ratelimit;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import com.example.loginbe.repository.RedisScripts;
+import com.example.loginbe.security.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Redis 기반 분산 rate limiter (슬라이딩 윈도우)
+// - 요청 하나에 걸린 모든 키(IP, 이메일, 휴대폰 번호 등)를 Lua 스크립트 한 번으로 판정
+// - 한 번 초과 판정을 받은 키는 재시도 가능 시각까지 노드 메모리에서 바로 거절
+//   -> 크리덴셜 스터핑/SMS 펌핑 요청은 Redis, DB, BCrypt 작업 전에 걸러짐
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    // rate_limit.lua가 반환 값 하나에 재시도 시간과 키 번호를 함께 담는 단위 (요청당 키는 256개 미만)
+    private static final long RATE_LIMIT_KEY_RADIX = 256;
+
+    private final RedisDao redisDao;
+    private final RateLimitProperties properties;
+
+    // Redis 키 -> 차단 해제 시각(ms)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    // IP + 요청 값(이메일, 휴대폰 번호) 두 기준으로 판정
+    public void check(String endpoint, String ip, String dimension, String value) {
+        Map<String, String> dimensions = new LinkedHashMap<>();
+        dimensions.put("ip", ip);
+        dimensions.put(dimension, value);
+        check(endpoint, dimensions);
+    }
+
+    // 한도를 넘으면 RateLimitExceededException (429)
+    // dimensions: 예) {"ip": "1.2.3.4", "email": "a@b.com"}, 값이 null이면 제외
+    public void check(String endpoint, Map<String, String> dimensions) {
+        if (!properties.isEnabled()) return;
+
+        Map<String, RateLimitProperties.Rule> rules = properties.getEndpoints().get(endpoint);
+        if (rules == null || rules.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(TokenDigest.newTokenId()); // ZSET member (요청마다 고유)
+
+        for (Map.Entry<String, String> dimension : dimensions.entrySet()) {
+            RateLimitProperties.Rule rule = rules.get(dimension.getKey());
+            if (rule == null || dimension.getValue() == null) continue;
+
+            String key = RedisKeys.rateLimit(endpoint, dimension.getKey(), dimension.getValue());
+
+            // 로컬 사전 필터: 이미 차단된 키면 Redis 호출 없이 거절
+            Long until = blockedUntil.get(key);
+            if (until != null) {
+                if (until > now) {
+                    throw new RateLimitExceededException(until - now);
+                }
+                blockedUntil.remove(key, until);
+            }
+
+            keys.add(key);
+            args.add(String.valueOf(rule.getLimit()));
+            args.add(String.valueOf(rule.getWindow().toMillis()));
+        }
+        if (keys.isEmpty()) return;
+
+        if (redisDao.isCluster()) {
+            // 클러스터: 키마다 슬롯이 다르므로 키별로 판정
+            // -> 앞 키에서 허용된 요청은 뒤 키가 거절해도 기록됨 (거절된 요청만큼 조금 더 엄격해짐)
+            for (int i = 0; i < keys.size(); i++) {
+                Long result = redisDao.execute(RedisScripts.RATE_LIMIT, List.of(keys.get(i)),
+                        args.get(0), args.get(2 * i + 1), args.get(2 * i + 2));
+                rejectIfLimited(keys.get(i), result, now);
+            }
+            return;
+        }
+
+        Long result = redisDao.execute(RedisScripts.RATE_LIMIT, keys, args.toArray(String[]::new));
+        if (result == null || result <= 0) return;
+        rejectIfLimited(keys.get((int) (result % RATE_LIMIT_KEY_RADIX) - 1), result, now);
+    }
+
+    // result: 스크립트 반환 (0 허용, 재시도까지 남은 시간(ms) * 256 + 초과한 키 번호 거절)
+    private void rejectIfLimited(String key, Long result, long now) {
+        if (result == null || result <= 0) return;
+        long retryAfter = result / RATE_LIMIT_KEY_RADIX;
+
+        block(key, now + retryAfter);
+        log.warn("요청 횟수 초과: {} ({}ms 후 재시도 가능)", key, retryAfter);
+        throw new RateLimitExceededException(retryAfter);
+    }
+
+    private void block(String key, long until) {
+        if (blockedUntil.size() >= properties.getLocalBlockMaxSize()) {
+            purgeExpired();
+            if (blockedUntil.size() >= properties.getLocalBlockMaxSize()) {
+                // 메모리 보호: 가득 차면 로컬 필터 없이 Redis 판정만 사용
+                return;
+            }
+        }
+        blockedUntil.put(key, until);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        blockedUntil.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.loginbe.security.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// 현재 서버에서 목표 해싱 시간에 맞는 BCrypt cost(strength) 계산
+// -> cost가 1 오를 때마다 해싱 시간은 약 2배
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long elapsed = measure(minStrength);
+
+        // 다음 cost의 예상 시간(현재의 2배)이 목표 이내면 한 단계씩 올림
+        while (strength < maxStrength && elapsed * 2 <= targetMillis) {
+            strength++;
+            elapsed = measure(strength);
+        }
+        log.info("BCrypt cost 보정: strength={}, 해싱 시간={}ms (목표 {}ms)", strength, elapsed, targetMillis);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD); // JIT 워밍업
+
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -1,135 +1,330 @@
 package com.example.loginbe.security.util;
 
+import com.example.loginbe.dto.LoginResponseDto;
+import com.example.loginbe.metrics.ServerTiming;
 import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import com.example.loginbe.repository.RedisScripts;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 @Component
 public class JwtTokenProvider {
 
-    private final Key key;
+    private final SigningKeyRing keyRing;
+    private final JwtParser jwtParser;
     private final RedisDao redisDao;
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private final VerifiedTokenCache tokenCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final RefreshSessionStore sessionStore;
+    // 이전 형식의 refreshToken 키(<subject> -> 원문)도 조회할지 여부
+    // -> 배포 후 refreshToken 만료 기간(7일)이 지나면 false로 변경
+    private final boolean legacyKeys;
+
+    // 검증 결과별 파싱 시간 (캐시 적중 포함), 종류별 발급 시간
+    private final Timer parseValidTimer;
+    private final Timer parseExpiredTimer;
+    private final Timer parseInvalidTimer;
+    private final Timer issueAccessTimer;
+    private final Timer issueRefreshTimer;
+
+    public enum RefreshCheck {
+        VALID,
+        BLACKLISTED,
+        MISMATCH
+    }
 
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000L * 60 * 30;
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 24 * 7;
+    // 서명 키 교체 시 공개키 유지 기간 계산에도 사용
+    static final long REFRESH_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 24 * 7;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
-                            RedisDao redisDao) {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+    public JwtTokenProvider(SigningKeyRing keyRing,
+                            RedisDao redisDao,
+                            VerifiedTokenCache tokenCache,
+                            TokenBlacklist tokenBlacklist,
+                            RefreshSessionStore sessionStore,
+                            @Value("${jwt.redis.legacy-keys:true}") boolean legacyKeys,
+                            MeterRegistry meterRegistry) {
+        this.keyRing = keyRing;
+        // 파서는 불변이고 thread-safe 하므로 한 번만 생성해서 재사용
+        // 검증 키는 토큰 헤더(kid 유무)에 따라 키 링에서 선택
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.verificationKey(header);
+                    }
+                })
+                .build();
         this.redisDao = redisDao;
+        this.tokenCache = tokenCache;
+        this.tokenBlacklist = tokenBlacklist;
+        this.sessionStore = sessionStore;
+        this.legacyKeys = legacyKeys;
+        this.parseValidTimer = parseTimer(meterRegistry, "valid");
+        this.parseExpiredTimer = parseTimer(meterRegistry, "expired");
+        this.parseInvalidTimer = parseTimer(meterRegistry, "invalid");
+        this.issueAccessTimer = issueTimer(meterRegistry, "access");
+        this.issueRefreshTimer = issueTimer(meterRegistry, "refresh");
+    }
+
+    private static Timer parseTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("jwt.parse").tag("outcome", outcome).register(registry);
+    }
+
+    private static Timer issueTimer(MeterRegistry registry, String type) {
+        return Timer.builder("jwt.issue").tag("type", type).register(registry);
     }
 
     public String generateAccessToken(String email, String role){
-        return Jwts.builder()
-                .setSubject(email)
-                .claim("role", role)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRE_TIME))
-                .signWith(key)
-                .compact();
+        return generateAccessToken(email, null, role);
+    }
+
+    public String generateAccessToken(String subject, SubjectType subjectType, String role){
+        return generateAccessToken(subject, subjectType, role, null);
+    }
+
+    // sessionId: 같은 로그인 세션의 refreshToken과 같은 sid (로그아웃 시 해당 기기 세션만 삭제)
+    public String generateAccessToken(String subject, SubjectType subjectType, String role, String sessionId){
+        long start = System.nanoTime();
+        String accessToken = buildToken(TokenDigest.newTokenId(), subject, subjectType, role, sessionId,
+                ACCESS_TOKEN_EXPIRE_TIME);
+        ServerTiming.record(issueAccessTimer, ServerTiming.JWT, start);
+        return accessToken;
+    }
+
+    // 로그인 한 번 = 세션(기기) 하나: 같은 sid를 가진 accessToken/refreshToken 발급
+    public LoginResponseDto issueTokens(String subject, SubjectType subjectType, String role, String device) {
+        String sessionId = TokenDigest.newTokenId();
+        return new LoginResponseDto(
+                generateAccessToken(subject, subjectType, role, sessionId),
+                generateRefreshToken(subject, subjectType, role, sessionId, device));
     }
 
     public String generateRefreshToken(String email, String role){
-        String refreshToken =  Jwts.builder()
-                .setSubject(email)
-                .claim("role", role)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRE_TIME))
-                .signWith(key)
-                .compact();
+        return generateRefreshToken(email, null, role);
+    }
 
-        redisDao.setValues(email, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRE_TIME));
+    public String generateRefreshToken(String subject, SubjectType subjectType, String role){
+        return generateRefreshToken(subject, subjectType, role, TokenDigest.newTokenId(), null);
+    }
+
+    public String generateRefreshToken(String subject, SubjectType subjectType, String role,
+                                       String sessionId, String device){
+        long start = System.nanoTime();
+        String tokenId = TokenDigest.newTokenId();
+        long now = System.currentTimeMillis();
+        String refreshToken = buildToken(tokenId, subject, subjectType, role, sessionId, REFRESH_TOKEN_EXPIRE_TIME);
+        ServerTiming.record(issueRefreshTimer, ServerTiming.JWT, start);
+
+        // 토큰 원문 대신 jti만 세션에 저장 (다른 기기의 세션은 그대로 유지)
+        sessionStore.create(subject, new RefreshSession(sessionId, tokenId, now, now + REFRESH_TOKEN_EXPIRE_TIME, device));
 
         return refreshToken;
     }
 
-    public String getRoleFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return (String) claims.get("role");
-        } catch (ExpiredJwtException e) {
-            return (String) e.getClaims().get("role");
+    private String buildToken(String tokenId, String subject, SubjectType subjectType, String role,
+                              String sessionId, long expireTime) {
+        JwtBuilder builder = Jwts.builder()
+                .setId(tokenId)
+                .setSubject(subject)
+                .claim("role", role);
+        if (subjectType != null) {
+            builder.claim(ParsedToken.SUBJECT_TYPE_CLAIM, subjectType.getClaimValue());
+        }
+        if (sessionId != null) {
+            builder.claim(ParsedToken.SESSION_ID_CLAIM, sessionId);
         }
+        builder.setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + expireTime));
+        return keyRing.signWith(builder).compact();
     }
 
-    public String getEmailFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims().getSubject();
+    // 서명 검증 + 클레임 디코딩을 한 번만 수행
+    public ParsedToken parse(String token) {
+        if (token == null || token.isBlank()) {
+            return ParsedToken.invalid();
         }
+        // 이미 검증된 토큰이면 캐시된 결과를 재사용
+        long start = System.nanoTime();
+        ParsedToken parsed = tokenCache.getOrVerify(token, this::verify);
+        Timer timer = parsed.isValid() ? parseValidTimer : parsed.isExpired() ? parseExpiredTimer : parseInvalidTimer;
+        ServerTiming.record(timer, ServerTiming.JWT, start);
+        return parsed;
     }
 
-    public boolean validateToken(String token) {
+    private ParsedToken verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return ParsedToken.valid(jwtParser.parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException e) {
+            return ParsedToken.expired(e.getClaims());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return ParsedToken.invalid();
         }
     }
 
+    public String getRoleFromToken(String token) {
+        return parse(token).getRole();
+    }
+
+    public String getEmailFromToken(String token) {
+        return parse(token).getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return parse(token).isValid();
+    }
+
     public boolean validateRefreshToken(String token) {
-        if (!validateToken(token)) return false;
+        return validateRefreshToken(token, parse(token));
+    }
+
+    // 이미 파싱된 토큰으로 Redis에 저장된 refreshToken과 비교
+    public boolean validateRefreshToken(String token, ParsedToken parsed) {
+        if (!parsed.isValid()) return false;
 
         try {
-            String email = getEmailFromToken(token);
-            String redisToken = (String) redisDao.getValues(email);
-            return token.equals(redisToken);
+            if (parsed.getSessionId() != null) {
+                RefreshSession session = sessionStore.find(parsed.getSubject(), parsed.getSessionId());
+                return session != null && parsed.getId().equals(session.tokenId());
+            }
+            if (parsed.getId() != null) {
+                return parsed.getId().equals(redisDao.getValues(RedisKeys.refreshToken(parsed.getSubject())));
+            }
+            // jti가 없는 이전 refreshToken은 원문이 저장된 이전 키와 비교
+            return legacyKeys && token.equals(redisDao.getValues(parsed.getSubject()));
         } catch (Exception e) {
             return false;
         }
     }
 
-    public void deleteRefreshToken(String username) {
-        if (username == null || username.trim().isEmpty()) {
-            throw new IllegalArgumentException("Username cannot be null or empty");
+    // 블랙리스트 확인과 저장된 refreshToken 비교를 한 번의 Redis 호출로 처리
+    public RefreshCheck checkRefreshToken(String token, ParsedToken parsed) {
+        String storedKey;
+        String expected;
+        String sessionId = "";
+        if (parsed.getSessionId() != null) {
+            storedKey = RedisKeys.sessions(parsed.getSubject());
+            expected = parsed.getId();
+            sessionId = parsed.getSessionId();
+        } else if (parsed.getId() != null) {
+            // 세션 도입 전에 발급된 refreshToken
+            storedKey = RedisKeys.refreshToken(parsed.getSubject());
+            expected = parsed.getId();
+        } else if (legacyKeys) {
+            // jti가 없는 이전 refreshToken은 원문이 저장된 이전 키와 비교
+            storedKey = parsed.getSubject();
+            expected = token;
+        } else {
+            return RefreshCheck.MISMATCH;
+        }
+
+        String blacklistKey = RedisKeys.blacklist(parsed.getTokenId(token));
+        if (redisDao.isCluster()) {
+            return checkRefreshTokenByKey(blacklistKey, storedKey, expected, parsed);
         }
 
-        redisDao.deleteValues(username);
+        Long result = redisDao.execute(RedisScripts.CHECK_REFRESH, List.of(blacklistKey, storedKey), expected, sessionId);
+
+        if (result == null || result == 2) return RefreshCheck.MISMATCH;
+        if (result == 1) return RefreshCheck.BLACKLISTED;
+        return RefreshCheck.VALID;
     }
 
-    public void addToBlacklist(String accessToken) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+    // 클러스터: 블랙리스트 키와 세션 키의 슬롯이 달라 스크립트로 묶을 수 없으므로 키마다 따로 조회
+    private RefreshCheck checkRefreshTokenByKey(String blacklistKey, String storedKey, String expected, ParsedToken parsed) {
+        if (redisDao.getValues(blacklistKey) != null) return RefreshCheck.BLACKLISTED;
 
-            Date expiration = claims.getExpiration();
-            long now = System.currentTimeMillis();
+        String stored;
+        if (parsed.getSessionId() != null) {
+            RefreshSession session = sessionStore.find(parsed.getSubject(), parsed.getSessionId());
+            stored = session == null ? null : session.tokenId();
+        } else {
+            stored = redisDao.getValues(storedKey);
+        }
+        return expected.equals(stored) ? RefreshCheck.VALID : RefreshCheck.MISMATCH;
+    }
 
-            long remainTime = expiration.getTime() - now;
+    // 로그인 세션 삭제 + accessToken 블랙리스트 등록을 한 번의 원자적 호출로 처리
+    // -> sid가 있는 토큰은 그 기기 세션만 삭제, 다른 기기는 로그인 유지
+    public void logout(String accessToken, ParsedToken parsed) {
+        String subject = parsed.getSubject();
+        if (subject == null || subject.trim().isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be null or empty");
+        }
+        tokenCache.invalidate(accessToken);
 
+        String tokenId = parsed.getTokenId(accessToken);
+        long remainTime = parsed.isValid() ? parsed.getRemainingMillis() : 0;
+
+        List<String> keys = new ArrayList<>(4);
+        keys.add(RedisKeys.blacklist(tokenId));
+        keys.add(RedisKeys.sessions(subject));
+        if (parsed.getSessionId() == null) {
+            // 세션 도입 전 토큰: 사용자당 하나뿐인 refreshToken 키 삭제
+            keys.add(RedisKeys.refreshToken(subject));
+            if (legacyKeys) {
+                keys.add(subject);
+            }
+        }
+        String sessionId = parsed.getSessionId() == null ? "" : parsed.getSessionId();
+        if (redisDao.isCluster()) {
+            // 클러스터: 키마다 슬롯이 다르므로 블랙리스트 등록을 먼저 하고 세션/키 삭제는 따로 처리
             if (remainTime > 0) {
-                redisDao.setValues(BLACKLIST_PREFIX + accessToken, "logout", Duration.ofMillis(remainTime));
+                redisDao.setValues(keys.get(0), "1", Duration.ofMillis(remainTime));
             }
-        } catch (Exception e) {
+            if (!sessionId.isEmpty()) {
+                redisDao.deleteHashField(keys.get(1), sessionId);
+            }
+            if (keys.size() > 2) {
+                redisDao.deleteValues(keys.subList(2, keys.size()));
+            }
+        } else {
+            redisDao.execute(RedisScripts.LOGOUT, keys, String.valueOf(remainTime), sessionId);
+        }
+
+        tokenBlacklist.markRevoked(tokenId, remainTime);
+    }
 
+    // 모든 기기의 refreshToken 삭제
+    public void deleteRefreshToken(String username) {
+        if (username == null || username.trim().isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be null or empty");
         }
+        sessionStore.revokeAll(username, legacyKeys);
+    }
+
+    public void addToBlacklist(String accessToken) {
+        addToBlacklist(accessToken, parse(accessToken));
+    }
+
+    public void addToBlacklist(String accessToken, ParsedToken parsed) {
+        tokenCache.invalidate(accessToken);
+        if (!parsed.isValid()) return;
+
+        tokenBlacklist.add(parsed.getTokenId(accessToken), parsed.getRemainingMillis());
     }
 
     public boolean isBlacklisted(String accessToken) {
-        String key = BLACKLIST_PREFIX + accessToken;
-        return redisDao.getValues(key) != null;
+        return isBlacklisted(accessToken, parse(accessToken));
+    }
+
+    public boolean isBlacklisted(String accessToken, ParsedToken parsed) {
+        return tokenBlacklist.contains(accessToken, parsed);
+    }
+
+    // 여러 토큰의 블랙리스트 여부를 한 번에 확인 (Redis 호출 최대 한 번)
+    public boolean[] isBlacklisted(List<String> accessTokens, List<ParsedToken> parsed) {
+        if (accessTokens.isEmpty()) return new boolean[0];
+        return tokenBlacklist.containsAll(accessTokens, parsed);
     }
 }
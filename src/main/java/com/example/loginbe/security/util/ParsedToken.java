@@ -0,0 +1,81 @@
+package com.example.loginbe.security.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+// 한 번의 서명 검증으로 얻은 토큰 정보를 담는 불변 객체
+// -> 필터/컨트롤러에서 같은 토큰을 여러 번 파싱하지 않도록 함
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParsedToken {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    public static final String SUBJECT_TYPE_CLAIM = "sub_type";
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    private static final ParsedToken INVALID = new ParsedToken(Status.INVALID, null, null, null, null, null, null, null);
+
+    private final Status status;
+    // jti, 이전 토큰에는 없을 수 있음 (null)
+    private final String id;
+    private final String subject;
+    // 이전 토큰에는 없을 수 있음 (null)
+    private final SubjectType subjectType;
+    private final String role;
+    // 로그인 세션(기기) id, 이전 토큰에는 없을 수 있음 (null)
+    private final String sessionId;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    static ParsedToken valid(Claims claims) {
+        return of(Status.VALID, claims);
+    }
+
+    // 만료된 토큰도 서명은 검증된 상태이므로 클레임을 그대로 보관
+    static ParsedToken expired(Claims claims) {
+        return of(Status.EXPIRED, claims);
+    }
+
+    static ParsedToken invalid() {
+        return INVALID;
+    }
+
+    private static ParsedToken of(Status status, Claims claims) {
+        return new ParsedToken(status,
+                claims.getId(),
+                claims.getSubject(),
+                SubjectType.fromClaim(claims.get(SUBJECT_TYPE_CLAIM, String.class)),
+                claims.get("role", String.class),
+                claims.get(SESSION_ID_CLAIM, String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration());
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+
+    // Redis에 저장할 토큰 식별자: jti가 없는 이전 토큰은 원문 다이제스트 사용
+    public String getTokenId(String token) {
+        return id != null ? id : TokenDigest.of(token);
+    }
+
+    // 만료까지 남은 시간 (ms), 만료 정보가 없으면 0
+    public long getRemainingMillis() {
+        if (expiration == null) return 0;
+        return Math.max(0, expiration.getTime() - System.currentTimeMillis());
+    }
+}
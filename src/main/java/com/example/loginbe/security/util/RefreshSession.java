@@ -0,0 +1,84 @@
+package com.example.loginbe.security.util;
+
+import java.nio.charset.StandardCharsets;
+
+// 로그인 세션 하나 (기기별 refreshToken)
+// Redis 저장 형식
+// - 바이너리: 버전(1) + 생성시각(8) + 만료시각(8) + jti 길이(1) + jti(ASCII) + 기기(UTF-8)
+//   -> 숫자를 문자열로 바꾸거나 split 하지 않고 고정 위치에서 바로 읽음
+// - 텍스트(이전 형식): "jti|생성시각|만료시각|기기"
+// 스크립트(add_session.lua, check_refresh.lua)도 두 형식을 모두 읽음
+public record RefreshSession(String sessionId, String tokenId, long createdAt, long expiresAt, String device) {
+
+    static final byte BINARY_VERSION = 1;
+    private static final int HEADER_LENGTH = 18;
+
+    byte[] toBytes() {
+        int jtiLength = tokenId.length();
+        if (jtiLength > 0xff) {
+            throw new IllegalArgumentException("jti가 너무 깁니다: " + jtiLength);
+        }
+        byte[] deviceBytes = device == null ? new byte[0] : device.getBytes(StandardCharsets.UTF_8);
+        byte[] value = new byte[HEADER_LENGTH + jtiLength + deviceBytes.length];
+
+        value[0] = BINARY_VERSION;
+        writeLong(value, 1, createdAt);
+        writeLong(value, 9, expiresAt);
+        value[17] = (byte) jtiLength;
+        for (int i = 0; i < jtiLength; i++) {
+            // jti는 base64url 문자만 사용
+            value[HEADER_LENGTH + i] = (byte) tokenId.charAt(i);
+        }
+        System.arraycopy(deviceBytes, 0, value, HEADER_LENGTH + jtiLength, deviceBytes.length);
+        return value;
+    }
+
+    // 형식이 맞지 않으면 null
+    static RefreshSession fromBytes(String sessionId, byte[] value) {
+        if (value.length == 0 || value[0] != BINARY_VERSION) {
+            return fromValue(sessionId, new String(value, StandardCharsets.UTF_8));
+        }
+        if (value.length < HEADER_LENGTH) return null;
+
+        int jtiLength = value[17] & 0xff;
+        int deviceOffset = HEADER_LENGTH + jtiLength;
+        if (value.length < deviceOffset) return null;
+
+        String device = value.length == deviceOffset ? null
+                : new String(value, deviceOffset, value.length - deviceOffset, StandardCharsets.UTF_8);
+        return new RefreshSession(sessionId, new String(value, HEADER_LENGTH, jtiLength, StandardCharsets.US_ASCII),
+                readLong(value, 1), readLong(value, 9), device);
+    }
+
+    String toValue() {
+        return tokenId + "|" + createdAt + "|" + expiresAt + "|" + (device == null ? "" : device);
+    }
+
+    // 형식이 맞지 않으면 null
+    static RefreshSession fromValue(String sessionId, String value) {
+        String[] parts = value.split("\\|", 4);
+        if (parts.length < 4) return null;
+        try {
+            return new RefreshSession(sessionId, parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                    parts[3].isEmpty() ? null : parts[3]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // big-endian (Lua 스크립트에서 앞 바이트부터 읽음)
+    private static void writeLong(byte[] target, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            target[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] source, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (source[offset + i] & 0xff);
+        }
+        return value;
+    }
+}
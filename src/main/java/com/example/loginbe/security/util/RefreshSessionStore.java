@@ -0,0 +1,103 @@
+package com.example.loginbe.security.util;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import com.example.loginbe.repository.RedisScripts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 로그인 세션(기기) 저장소
+// - 사용자당 HASH 하나 (auth:sess:<subject>, sid -> 세션 정보)
+// - 등록/목록/하나 삭제/전체 삭제 모두 Redis 호출 한 번 (키 SCAN 없음)
+// - 최대 세션 수를 넘으면 가장 오래된 세션부터 제거
+@Slf4j
+@Component
+public class RefreshSessionStore {
+
+    // 기기 정보(User-Agent)는 앞부분만 저장
+    private static final int MAX_DEVICE_LENGTH = 200;
+
+    private final RedisDao redisDao;
+    private final int maxSessions;
+    // 바이너리 형식으로 저장할지 (읽기는 항상 두 형식 모두 가능)
+    private final boolean binaryValues;
+
+    public RefreshSessionStore(RedisDao redisDao,
+                               @Value("${jwt.session.max-per-user:5}") int maxSessions,
+                               @Value("${jwt.session.binary-values:false}") boolean binaryValues) {
+        this.redisDao = redisDao;
+        this.maxSessions = maxSessions;
+        this.binaryValues = binaryValues;
+    }
+
+    public void create(String subject, RefreshSession session) {
+        String device = session.device();
+        if (device != null && device.length() > MAX_DEVICE_LENGTH) {
+            session = new RefreshSession(session.sessionId(), session.tokenId(), session.createdAt(),
+                    session.expiresAt(), device.substring(0, MAX_DEVICE_LENGTH));
+        }
+        long now = System.currentTimeMillis();
+        long ttl = Math.max(1, session.expiresAt() - now);
+
+        Long removed;
+        if (binaryValues) {
+            removed = redisDao.executeRaw(RedisScripts.ADD_SESSION, List.of(RedisKeys.SESSIONS_KEY.key(subject)),
+                    ascii(session.sessionId()), session.toBytes(), ascii(now), ascii(maxSessions), ascii(ttl));
+        } else {
+            removed = redisDao.execute(RedisScripts.ADD_SESSION, List.of(RedisKeys.sessions(subject)),
+                    session.sessionId(), session.toValue(), String.valueOf(now),
+                    String.valueOf(maxSessions), String.valueOf(ttl));
+        }
+        if (removed != null && removed > 0) {
+            log.debug("로그인 세션 정리: subject={}, removed={}", subject, removed);
+        }
+    }
+
+    // 세션 하나 조회 (HGET), 없으면 null
+    public RefreshSession find(String subject, String sessionId) {
+        byte[] value = redisDao.getHashValueRaw(RedisKeys.SESSIONS_KEY.key(subject), ascii(sessionId));
+        return value == null ? null : RefreshSession.fromBytes(sessionId, value);
+    }
+
+    // 만료되지 않은 세션 목록 (최근 로그인 순)
+    public List<RefreshSession> list(String subject) {
+        long now = System.currentTimeMillis();
+        List<RefreshSession> sessions = new ArrayList<>();
+        for (Map.Entry<byte[], byte[]> entry : redisDao.getHashEntriesRaw(RedisKeys.SESSIONS_KEY.key(subject)).entrySet()) {
+            RefreshSession session = RefreshSession.fromBytes(
+                    new String(entry.getKey(), StandardCharsets.US_ASCII), entry.getValue());
+            if (session != null && session.expiresAt() > now) {
+                sessions.add(session);
+            }
+        }
+        sessions.sort(Comparator.comparingLong(RefreshSession::createdAt).reversed());
+        return sessions;
+    }
+
+    public boolean revoke(String subject, String sessionId) {
+        return redisDao.deleteHashField(RedisKeys.sessions(subject), sessionId);
+    }
+
+    // 모든 기기 로그아웃: 세션 HASH와 세션 도입 전 refreshToken 키를 DEL 한 번으로 삭제
+    public void revokeAll(String subject, boolean legacyKeys) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(RedisKeys.sessions(subject));
+        keys.add(RedisKeys.refreshToken(subject));
+        if (legacyKeys) {
+            keys.add(subject);
+        }
+        redisDao.deleteValues(keys);
+    }
+
+    // sid, 숫자 인자는 ASCII
+    private static byte[] ascii(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.loginbe.security.util;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 토큰 서명 키 관리
+// - HS256: jwt.secret 하나로 서명/검증 (다른 서비스가 검증하려면 비밀키를 공유해야 함)
+// - ES256: 노드마다 EC P-256 키 쌍을 만들고 공개키만 Redis(auth:jwks)로 공유
+//   -> 토큰 헤더의 kid로 검증 키를 찾고, 다른 서비스는 /.well-known/jwks.json 으로 직접 검증
+// - 키 교체: 다음 키를 한 주기 먼저 JWKS에 공개해 두었다가 rotation-interval마다 서명 키로 승격 (재시작 없음)
+//   -> 교체된 키의 공개키는 그 키로 서명한 토큰이 모두 만료된 뒤 제거
+// - Redis에 공개하는 키에는 jwt.secret으로 만든 HMAC을 붙이고, 검증되는 키만 신뢰
+//   -> Redis 쓰기 권한만으로는 임의의 공개키를 등록해 토큰을 위조할 수 없음
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+    public enum Algorithm {
+        HS256,
+        ES256
+    }
+
+    private static final ECParameterSpec P256 = p256();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // 교체 확인 주기 등으로 서명 기간이 조금 늘어날 수 있으므로 공개키 유지 기간에 여유를 둠
+    private static final long RETIRE_MARGIN_MILLIS = 1000L * 60 * 60;
+
+    private final Algorithm algorithm;
+    private final Key hmacKey;
+    // auth:jwks 항목 인증용 (HMAC-SHA256)
+    private final SecretKeySpec jwksMacKey;
+    // kid 없는(HMAC) 토큰도 검증할지 -> ES256 전환 후 HMAC 토큰이 모두 만료되면 false
+    private final boolean acceptHmac;
+    private final RedisDao redisDao;
+    private final long rotationIntervalMillis;
+    private final long minRefreshIntervalMillis;
+
+    // 이 노드의 키: 서명 중인 키, 미리 공개해 둔 다음 키
+    private volatile SigningKey current;
+    private volatile SigningKey next;
+
+    // kid -> 공개키 (모든 노드의 키, 갱신 시 통째로 교체)
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    // /.well-known/jwks.json 응답 (갱신할 때만 다시 만듦)
+    private volatile Map<String, Object> jwks = Map.of("keys", List.of());
+    private volatile long lastRefreshAt;
+    // 검증 중(가상 스레드)에 Redis를 조회하므로 synchronized 대신 ReentrantLock
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private record SigningKey(String kid, KeyPair keyPair, long createdAt) {
+    }
+
+    public SigningKeyRing(@Value("${jwt.secret}") String secretKey,
+                          @Value("${jwt.signing.algorithm:HS256}") Algorithm algorithm,
+                          @Value("${jwt.signing.accept-hmac:true}") boolean acceptHmac,
+                          @Value("${jwt.signing.rotation-interval:1d}") Duration rotationInterval,
+                          @Value("${jwt.signing.jwks-min-refresh-interval-ms:10000}") long minRefreshIntervalMillis,
+                          RedisDao redisDao) {
+        this.algorithm = algorithm;
+        this.hmacKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwksMacKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.acceptHmac = acceptHmac || algorithm == Algorithm.HS256;
+        this.redisDao = redisDao;
+        this.rotationIntervalMillis = rotationInterval.toMillis();
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+
+        if (algorithm == Algorithm.ES256) {
+            this.current = generate();
+            this.next = generate();
+            // Redis에 공개하기 전에도 이 노드가 서명한 토큰은 검증 가능
+            applyKeys(Map.of());
+        }
+    }
+
+    // 시작 시 이 노드의 공개키를 Redis에 등록하고 다른 노드의 키를 읽어옴
+    @PostConstruct
+    public void init() {
+        if (algorithm == Algorithm.ES256) {
+            publish(current);
+            publish(next);
+        }
+        refresh();
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public JwtBuilder signWith(JwtBuilder builder) {
+        if (algorithm == Algorithm.HS256) {
+            // 키 길이에 맞는 HS256/384/512 자동 선택 (기존 토큰과 동일)
+            return builder.signWith(hmacKey);
+        }
+        SigningKey key = current;
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                .signWith(key.keyPair().getPrivate(), SignatureAlgorithm.ES256);
+    }
+
+    // 토큰 헤더의 kid로 검증 키 선택 (kid가 없으면 HMAC 토큰)
+    public Key verificationKey(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (!acceptHmac) {
+                throw new JwtException("HMAC 서명 토큰은 허용되지 않습니다.");
+            }
+            return hmacKey;
+        }
+
+        PublicKey key = publicKeys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastRefreshAt >= minRefreshIntervalMillis) {
+            // 다른 노드가 방금 만든 키일 수 있으므로 (최소 간격을 두고) Redis에서 다시 읽음
+            refresh();
+            key = publicKeys.get(kid);
+        }
+        if (key == null) {
+            throw new JwtException("알 수 없는 kid: " + kid);
+        }
+        return key;
+    }
+
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    // 서명 키 교체 시각이 지났으면 교체하고, 다른 노드의 키 목록을 다시 읽음
+    // 이 노드의 공개키도 매번 다시 등록 (같은 값 HSET) -> auth:jwks가 유실돼도 다음 주기에 복구
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval-ms:60000}",
+            initialDelayString = "${jwt.signing.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (algorithm == Algorithm.ES256) {
+            try {
+                publish(current);
+                publish(next);
+            } catch (Exception e) {
+                log.warn("JWKS 공개키 등록 실패: {}", e.getMessage());
+            }
+        }
+        if (algorithm == Algorithm.ES256 && System.currentTimeMillis() - current.createdAt() >= rotationIntervalMillis) {
+            rotate();
+        } else {
+            refresh();
+        }
+    }
+
+    // 다음 키를 서명 키로 승격하고 새 다음 키를 공개
+    public void rotate() {
+        if (algorithm != Algorithm.ES256) return;
+
+        SigningKey created = generate();
+        publish(created);
+        current = next;
+        next = created;
+        log.info("JWT 서명 키 교체: kid={}, next={}", current.kid(), next.kid());
+        refresh();
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            lastRefreshAt = System.currentTimeMillis();
+            applyKeys(redisDao.getHashEntries(RedisKeys.JWKS));
+        } catch (Exception e) {
+            // Redis 장애 시 기존 키 목록으로 계속 검증
+            log.warn("JWKS 갱신 실패: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Redis의 공개키 + 이 노드의 키로 검증 키 목록과 JWKS 응답을 다시 만듦
+    private void applyKeys(Map<String, String> entries) {
+        long now = System.currentTimeMillis();
+        Map<String, PublicKey> loaded = new HashMap<>();
+        Map<String, Map<String, Object>> jwkByKid = new LinkedHashMap<>();
+
+        if (current != null) {
+            for (SigningKey key : List.of(current, next)) {
+                ECPublicKey publicKey = (ECPublicKey) key.keyPair().getPublic();
+                loaded.put(key.kid(), publicKey);
+                jwkByKid.put(key.kid(), toJwk(key.kid(), encode(publicKey.getW().getAffineX()),
+                        encode(publicKey.getW().getAffineY())));
+            }
+        }
+
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            String kid = entry.getKey();
+            String[] parts = entry.getValue().split("\\|");
+            if (parts.length != 4 || loaded.containsKey(kid)) continue;
+            if (!MessageDigest.isEqual(mac(kid, parts[0], parts[1], parts[2]).getBytes(StandardCharsets.US_ASCII),
+                    parts[3].getBytes(StandardCharsets.US_ASCII))) {
+                // jwt.secret을 모르는 쪽이 등록한 키 -> 검증 키로 사용하지 않음
+                log.warn("JWKS 키 인증 실패: {}", kid);
+                continue;
+            }
+            try {
+                if (Long.parseLong(parts[2]) <= now) {
+                    // 이 키로 서명한 토큰은 모두 만료됨 (어느 노드든 먼저 확인한 쪽이 삭제)
+                    redisDao.deleteHashField(RedisKeys.JWKS, kid);
+                    continue;
+                }
+                loaded.put(kid, toPublicKey(parts[0], parts[1]));
+                jwkByKid.put(kid, toJwk(kid, parts[0], parts[1]));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("JWKS 키 변환 실패: {}", kid, e);
+            }
+        }
+
+        publicKeys = Map.copyOf(loaded);
+        jwks = Map.of("keys", List.copyOf(jwkByKid.values()));
+    }
+
+    // auth:jwks HASH에 kid -> "x|y|제거 시각|HMAC" 저장
+    // 제거 시각: 다음 키로 대기 + 서명 키로 사용 (최대 2주기) 후 토큰 최대 유효기간이 지난 시각
+    private void publish(SigningKey key) {
+        ECPublicKey publicKey = (ECPublicKey) key.keyPair().getPublic();
+        String x = encode(publicKey.getW().getAffineX());
+        String y = encode(publicKey.getW().getAffineY());
+        String retireAt = String.valueOf(key.createdAt() + 2 * rotationIntervalMillis
+                + JwtTokenProvider.REFRESH_TOKEN_EXPIRE_TIME + RETIRE_MARGIN_MILLIS);
+        redisDao.putHashValue(RedisKeys.JWKS, key.kid(),
+                x + "|" + y + "|" + retireAt + "|" + mac(key.kid(), x, y, retireAt));
+    }
+
+    // kid, 좌표, 제거 시각을 모두 포함 (다른 kid로 옮기거나 제거 시각을 늘리면 검증 실패)
+    private String mac(String kid, String x, String y, String retireAt) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(jwksMacKey);
+            return ENCODER.encodeToString(mac.doFinal(
+                    ("jwks|" + kid + "|" + x + "|" + y + "|" + retireAt).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            // 모든 JVM은 HmacSHA256을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static SigningKey generate() {
+        return new SigningKey(TokenDigest.newTokenId(), Keys.keyPairFor(SignatureAlgorithm.ES256),
+                System.currentTimeMillis());
+    }
+
+    private static Map<String, Object> toJwk(String kid, String x, String y) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", x);
+        jwk.put("y", y);
+        return jwk;
+    }
+
+    // JWK 좌표는 32바이트 고정 길이 (BigInteger는 부호 바이트가 붙거나 앞의 0이 빠질 수 있음)
+    private static String encode(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return ENCODER.encodeToString(fixed);
+    }
+
+    private static PublicKey toPublicKey(String x, String y) throws GeneralSecurityException {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        ECPoint point = new ECPoint(new BigInteger(1, decoder.decode(x)), new BigInteger(1, decoder.decode(y)));
+        return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, P256));
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            // 모든 JVM은 P-256을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.loginbe.security.util;
+
+// 토큰 subject에 담긴 식별자의 종류 ("sub_type" 클레임)
+// -> 이메일인지 socialId인지 알 수 있으므로 DB 조회를 한 번으로 끝낼 수 있음
+public enum SubjectType {
+    EMAIL("email"),
+    SOCIAL_ID("social");
+
+    private final String claimValue;
+
+    SubjectType(String claimValue) {
+        this.claimValue = claimValue;
+    }
+
+    public String getClaimValue() {
+        return claimValue;
+    }
+
+    // 이전에 발급된 토큰에는 클레임이 없으므로 null 반환
+    public static SubjectType fromClaim(String claimValue) {
+        for (SubjectType type : values()) {
+            if (type.claimValue.equals(claimValue)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
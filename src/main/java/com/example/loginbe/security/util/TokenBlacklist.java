@@ -0,0 +1,199 @@
+package com.example.loginbe.security.util;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 로그아웃된 accessToken 블랙리스트
+// strict: 요청마다 Redis primary 조회 (복제 지연 동안 폐기된 토큰이 통과하지 않도록)
+// near-cache: 노드별 메모리에 폐기된 토큰 id를 보관하고, Redis Pub/Sub으로 다른 노드와 동기화
+//   -> 대부분의 요청(블랙리스트가 아닌 토큰)은 네트워크 왕복 없이 처리
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    static final String CHANNEL = "blacklist:events";
+    private static final int LOAD_BATCH = 1000;
+
+    private final RedisDao redisDao;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean nearCache;
+    // 이전 형식의 블랙리스트 키(blacklist:<토큰 원문>)도 조회할지 여부
+    private final boolean legacyKeys;
+
+    // 토큰 id -> 만료 시각(ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public TokenBlacklist(RedisDao redisDao,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${jwt.blacklist.mode:strict}") String mode,
+                          @Value("${jwt.redis.legacy-keys:true}") boolean legacyKeys) {
+        this.redisDao = redisDao;
+        this.listenerContainer = listenerContainer;
+        this.nearCache = "near-cache".equals(mode);
+        this.legacyKeys = legacyKeys;
+    }
+
+    // 리스너만 등록, 실제 구독은 컨테이너가 시작될 때(SmartLifecycle.start) 이루어짐
+    @PostConstruct
+    public void init() {
+        if (!nearCache) return;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 컨테이너 시작(구독 완료) 이후에 처음 불러와야 그 사이에 발생한 폐기를 놓치지 않음
+    // -> 로딩 중 수신한 이벤트와 겹쳐도 같은 값으로 덮어쓸 뿐
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    public boolean isNearCache() {
+        return nearCache;
+    }
+
+    // tokenId: jti (이전 토큰은 원문 다이제스트)
+    public void add(String tokenId, long remainMillis) {
+        if (remainMillis <= 0) return;
+
+        redisDao.setValues(RedisKeys.blacklist(tokenId), "1", Duration.ofMillis(remainMillis));
+        markRevoked(tokenId, remainMillis);
+    }
+
+    // Redis에는 이미 기록된 경우 (예: 로그아웃 스크립트) near-cache 반영 + 다른 노드 전파만 수행
+    public void markRevoked(String tokenId, long remainMillis) {
+        if (nearCache && remainMillis > 0) {
+            long expiresAt = System.currentTimeMillis() + remainMillis;
+            revoked.put(tokenId, expiresAt);
+            redisDao.publish(CHANNEL, tokenId + ":" + expiresAt);
+        }
+    }
+
+    public boolean contains(String token, ParsedToken parsed) {
+        if (contains(parsed.getTokenId(token))) {
+            return true;
+        }
+        // near-cache는 이전 키도 다이제스트로 불러오므로 strict 모드에서 jti가 없는 이전 토큰만 추가 확인
+        return !nearCache && legacyKeys && parsed.getId() == null
+                && redisDao.getValues(RedisKeys.legacyBlacklist(token)) != null;
+    }
+
+    public boolean contains(String tokenId) {
+        if (nearCache) {
+            Long expiresAt = revoked.get(tokenId);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        }
+        // 값은 받지 않고 존재 여부만 (byte[] 키를 바로 생성)
+        // 폐기 직후에도 거절해야 하므로 복제 지연이 없는 primary에서 조회
+        return redisDao.existsRaw(RedisKeys.BLACKLIST_KEY.key(tokenId));
+    }
+
+    // 여러 토큰을 한 번에 확인 (서명이 검증된 토큰만 전달)
+    // near-cache: 메모리 조회만, strict: 이전 키까지 포함해 MGET 한 번
+    public boolean[] containsAll(List<String> tokens, List<ParsedToken> parsed) {
+        boolean[] result = new boolean[tokens.size()];
+        if (nearCache) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = contains(parsed.get(i).getTokenId(tokens.get(i)));
+            }
+            return result;
+        }
+
+        List<byte[]> keys = new ArrayList<>(tokens.size());
+        for (int i = 0; i < result.length; i++) {
+            keys.add(RedisKeys.BLACKLIST_KEY.key(parsed.get(i).getTokenId(tokens.get(i))));
+        }
+        // jti가 없는 이전 토큰은 이전 키도 같은 MGET으로 조회 (keys 뒤쪽 인덱스)
+        int[] legacyIndex = new int[result.length];
+        for (int i = 0; i < result.length; i++) {
+            legacyIndex[i] = -1;
+            if (legacyKeys && parsed.get(i).getId() == null) {
+                legacyIndex[i] = keys.size();
+                keys.add(RedisKeys.legacyBlacklist(tokens.get(i)).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        // 값은 null 여부만 보므로 문자열로 바꾸지 않음
+        List<byte[]> values = redisDao.multiGetRaw(keys);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i) != null || (legacyIndex[i] >= 0 && values.get(legacyIndex[i]) != null);
+        }
+        return result;
+    }
+
+    // 다른 노드에서 발행한 폐기 이벤트 수신 ("<tokenId>:<expiresAt>")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.lastIndexOf(':');
+        if (idx <= 0) return;
+
+        try {
+            revoked.put(body.substring(0, idx), Long.parseLong(body.substring(idx + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 이벤트: {}", body);
+        }
+    }
+
+    // Redis의 블랙리스트 키로 메모리 캐시를 다시 채움
+    // -> Pub/Sub 연결이 끊겼던 동안 놓친 이벤트도 주기적으로 보정
+    @Scheduled(fixedDelayString = "${jwt.blacklist.resync-interval-ms:300000}",
+            initialDelayString = "${jwt.blacklist.resync-interval-ms:300000}")
+    public void reload() {
+        if (!nearCache) return;
+
+        long now = System.currentTimeMillis();
+        int loaded = load(redisDao.scanKeys(RedisKeys.BLACKLIST + "*"),
+                key -> key.substring(RedisKeys.BLACKLIST.length()), now);
+        if (legacyKeys) {
+            loaded += load(redisDao.scanKeys(RedisKeys.LEGACY_BLACKLIST + "*"),
+                    key -> TokenDigest.of(key.substring(RedisKeys.LEGACY_BLACKLIST.length())), now);
+        }
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        log.info("블랙리스트 near-cache 동기화: {}건", loaded);
+    }
+
+    // 키마다 PTTL을 보내지 않고 LOAD_BATCH개씩 파이프라인으로 조회
+    private int load(List<String> keys, Function<String, String> tokenId, long now) {
+        int loaded = 0;
+        for (int from = 0; from < keys.size(); from += LOAD_BATCH) {
+            List<String> batch = keys.subList(from, Math.min(from + LOAD_BATCH, keys.size()));
+            List<Long> ttls = redisDao.getExpireMillis(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                long ttl = ttls.get(i);
+                if (ttl <= 0) continue;
+                revoked.put(tokenId.apply(batch.get(i)), now + ttl);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.loginbe.security.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// 토큰 원문 대신 사용할 고정 길이 식별자
+// -> SHA-256 다이제스트(43자), 새 토큰의 jti(22자)
+public final class TokenDigest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private TokenDigest() {
+    }
+
+    public static String of(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 128bit 난수 jti (UUID 문자열보다 짧은 22자)
+    public static String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+}
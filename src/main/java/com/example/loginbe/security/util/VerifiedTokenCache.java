@@ -0,0 +1,121 @@
+package com.example.loginbe.security.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 서명 검증이 끝난 토큰의 클레임을 토큰 다이제스트 기준으로 캐싱
+// -> 같은 accessToken이 반복해서 들어와도 HMAC 검증과 JSON 디코딩을 다시 하지 않음
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxTtlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.cache.max-size:100000}") int maxSize,
+                              @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtlSeconds * 1000;
+    }
+
+    private record Entry(ParsedToken token, long expiresAt) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 캐시에 있으면 그대로 반환하고, 없으면 verifier로 검증 후 유효한 토큰만 저장
+    public ParsedToken getOrVerify(String token, Function<String, ParsedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        String digest = TokenDigest.of(token);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(digest);
+        if (entry != null) {
+            if (entry.expiresAt() > now) {
+                hits.increment();
+                return entry.token();
+            }
+            // 토큰 exp 이후에는 절대 캐시 결과를 사용하지 않음
+            entries.remove(digest, entry);
+        }
+
+        misses.increment();
+        ParsedToken parsed = verifier.apply(token);
+        if (parsed.isValid()) {
+            long expiresAt = now + maxTtlMillis;
+            if (parsed.getExpiration() != null) {
+                expiresAt = Math.min(parsed.getExpiration().getTime(), expiresAt);
+            }
+            if (entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(digest, new Entry(parsed, expiresAt));
+        }
+        return parsed;
+    }
+
+    // 블랙리스트 등록 시 즉시 제거
+    public void invalidate(String token) {
+        if (enabled) {
+            entries.remove(TokenDigest.of(token));
+        }
+    }
+
+    // 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의의 항목부터 제거
+    private void evict(long now) {
+        purgeExpired(now);
+
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() >= maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        if (enabled) {
+            purgeExpired(System.currentTimeMillis());
+        }
+    }
+
+    private void purgeExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -3,12 +3,17 @@ package com.example.loginbe.service;
 import com.example.loginbe.entity.User;
 import com.example.loginbe.repository.UserRepository;
 import com.example.loginbe.security.CustomUserDetails;
+import com.example.loginbe.security.TokenUserDetails;
+import com.example.loginbe.security.util.ParsedToken;
+import com.example.loginbe.security.util.SubjectType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
@@ -16,12 +21,33 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
-        // 1. 먼저 이메일로 검색
-        User user = userRepository.findByEmail(identifier)
-                // 2. 이메일로 없으면 socialId로 검색 (카카오 등 소셜 로그인 대응)
-                .orElseGet(() -> userRepository.findBySocialId(identifier)
-                        .orElseThrow(() -> new UsernameNotFoundException("해당 식별자로 사용자를 찾을 수 없습니다: " + identifier)));
+        return new CustomUserDetails(findUser(identifier, null));
+    }
+
+    // sub_type 클레임이 있으면 해당 컬럼으로 한 번만 조회
+    public UserDetails loadUserBySubject(String identifier, SubjectType subjectType) throws UsernameNotFoundException {
+        return new CustomUserDetails(findUser(identifier, subjectType));
+    }
+
+    // claims 모드: DB 조회 없이 토큰 클레임으로 principal 생성 (User 엔티티는 필요할 때 조회)
+    public UserDetails loadUserFromClaims(ParsedToken parsed) {
+        return new TokenUserDetails(parsed.getSubject(), parsed.getSubjectType(), parsed.getRole(),
+                () -> findUser(parsed.getSubject(), parsed.getSubjectType()));
+    }
+
+    private User findUser(String identifier, SubjectType subjectType) {
+        Optional<User> user;
+        if (subjectType == SubjectType.EMAIL) {
+            user = userRepository.findByEmail(identifier);
+        } else if (subjectType == SubjectType.SOCIAL_ID) {
+            user = userRepository.findBySocialId(identifier);
+        } else {
+            // 1. 먼저 이메일로 검색
+            // 2. 이메일로 없으면 socialId로 검색 (sub_type 클레임이 없는 이전 토큰 대응)
+            user = userRepository.findByEmail(identifier)
+                    .or(() -> userRepository.findBySocialId(identifier));
+        }
 
-        return new CustomUserDetails(user);
+        return user.orElseThrow(() -> new UsernameNotFoundException("해당 식별자로 사용자를 찾을 수 없습니다: " + identifier));
     }
 }
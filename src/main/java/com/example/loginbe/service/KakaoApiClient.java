@@ -0,0 +1,152 @@
+package com.example.loginbe.service;
+
+import com.example.loginbe.metrics.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 카카오 API 호출 전용 클라이언트
+// - 커넥션 재사용(keep-alive 풀) + 연결/응답 타임아웃
+// - 동시 호출 수 제한(bulkhead): 카카오가 느려져도 톰캣 스레드를 모두 잡아먹지 않도록
+//   한도를 넘는 요청은 기다리지 않고 503으로 바로 실패 -> 일반 로그인은 영향 없음
+@Slf4j
+@Component
+public class KakaoApiClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final String authUri;
+    private final String apiUri;
+    private final Semaphore bulkhead;
+    private final long acquireTimeoutMillis;
+
+    // 호출 종류별 Timer를 미리 등록 (호출마다 builder/registry 조회를 하지 않음)
+    private final CallTimers tokenTimers;
+    private final CallTimers userInfoTimers;
+    private final CallTimers jwksTimers;
+
+    public KakaoApiClient(@Value("${kakao.auth-uri:https://kauth.kakao.com}") String authUri,
+                          @Value("${kakao.api-uri:https://kapi.kakao.com}") String apiUri,
+                          @Value("${kakao.http.connect-timeout-ms:1000}") long connectTimeoutMillis,
+                          @Value("${kakao.http.read-timeout-ms:3000}") long readTimeoutMillis,
+                          @Value("${kakao.http.max-concurrent-calls:20}") int maxConcurrentCalls,
+                          @Value("${kakao.http.acquire-timeout-ms:100}") long acquireTimeoutMillis,
+                          MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.authUri = authUri;
+        this.apiUri = apiUri;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.tokenTimers = CallTimers.of(meterRegistry, "token");
+        this.userInfoTimers = CallTimers.of(meterRegistry, "user-info");
+        this.jwksTimers = CallTimers.of(meterRegistry, "jwks");
+    }
+
+    // 인가 코드 -> 토큰 응답 (access_token, id_token 등)
+    public Map<String, Object> exchangeToken(String clientId, String redirectUri, String code) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", clientId);
+        params.add("redirect_uri", redirectUri);
+        params.add("code", code);
+
+        return call(tokenTimers, () -> restClient.post()
+                .uri(authUri + "/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(params)
+                .retrieve()
+                .body(MAP_TYPE));
+    }
+
+    public Map<String, Object> getUserInfo(String accessToken) {
+        return call(userInfoTimers, () -> restClient.get()
+                .uri(apiUri + "/v2/user/me")
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .body(MAP_TYPE));
+    }
+
+    // OIDC id_token 서명 검증용 공개키 목록
+    public Map<String, Object> getJwks() {
+        return call(jwksTimers, () -> restClient.get()
+                .uri(authUri + "/.well-known/jwks.json")
+                .retrieve()
+                .body(MAP_TYPE));
+    }
+
+    private <T> T call(CallTimers timers, Supplier<T> request) {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "카카오 로그인 요청이 중단되었습니다.");
+        }
+        if (!acquired) {
+            ServerTiming.record(timers.rejected(), ServerTiming.KAKAO, start);
+            log.warn("카카오 API 동시 호출 한도 초과: {}", timers.name());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "카카오 로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Timer outcome = timers.error();
+        try {
+            T response = request.get();
+            outcome = timers.success();
+            return response;
+        } catch (RestClientException e) {
+            // 타임아웃, 연결 실패, 4xx/5xx 응답
+            log.warn("카카오 API 호출 실패: {} - {}", timers.name(), e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "카카오 API 호출에 실패했습니다.", e);
+        } finally {
+            bulkhead.release();
+            ServerTiming.record(outcome, ServerTiming.KAKAO, start);
+        }
+    }
+
+    public int availablePermits() {
+        return bulkhead.availablePermits();
+    }
+
+    // 호출 종류 하나의 결과별 소요 시간 (대기 시간 포함)
+    private record CallTimers(String name, Timer success, Timer error, Timer rejected) {
+
+        static CallTimers of(MeterRegistry registry, String name) {
+            return new CallTimers(name, timer(registry, name, "success"), timer(registry, name, "error"),
+                    timer(registry, name, "rejected"));
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String outcome) {
+            return Timer.builder("kakao.api")
+                    .tag("call", name)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
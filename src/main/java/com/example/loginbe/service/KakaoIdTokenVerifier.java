@@ -0,0 +1,132 @@
+package com.example.loginbe.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 카카오 OIDC id_token 로컬 검증
+// -> 캐싱된 JWKS 공개키로 서명을 확인하고 sub/email을 읽으므로 /v2/user/me 호출이 필요 없음
+@Slf4j
+@Component
+public class KakaoIdTokenVerifier {
+
+    private final KakaoApiClient kakaoApiClient;
+    private final JwtParser jwtParser;
+    private final long minRefreshIntervalMillis;
+    private final boolean enabled;
+
+    // kid -> 공개키 (갱신 시 통째로 교체)
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshAt;
+    // synchronized 안에서 HTTP 호출을 하면 가상 스레드가 carrier에 고정되므로 ReentrantLock 사용
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public KakaoIdTokenVerifier(KakaoApiClient kakaoApiClient,
+                                @Value("${kakao.client-id}") String clientId,
+                                @Value("${kakao.oidc.issuer:https://kauth.kakao.com}") String issuer,
+                                @Value("${kakao.oidc.jwks-min-refresh-interval-ms:60000}") long minRefreshIntervalMillis,
+                                @Value("${kakao.oidc.enabled:false}") boolean enabled) {
+        this.kakaoApiClient = kakaoApiClient;
+        this.enabled = enabled;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return findKey(header.getKeyId());
+                    }
+                })
+                .requireIssuer(issuer)
+                .requireAudience(clientId)
+                .setAllowedClockSkewSeconds(30)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Claims verify(String idToken) {
+        try {
+            return jwtParser.parseClaimsJws(idToken).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("카카오 id_token 검증 실패: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 카카오 id_token 입니다.");
+        }
+    }
+
+    private PublicKey findKey(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastRefreshAt >= minRefreshIntervalMillis) {
+            // 키 교체 직후일 수 있으므로 모르는 kid면 (최소 간격을 두고) 즉시 갱신
+            refreshKeys();
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new JwtException("알 수 없는 kid: " + kid);
+        }
+        return key;
+    }
+
+    // 주기적으로 JWKS 갱신
+    @Scheduled(fixedDelayString = "${kakao.oidc.jwks-refresh-interval-ms:3600000}",
+            initialDelayString = "${kakao.oidc.jwks-refresh-interval-ms:3600000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refreshKeys();
+        }
+    }
+
+    public void refreshKeys() {
+        refreshLock.lock();
+        try {
+            lastRefreshAt = System.currentTimeMillis();
+            loadKeys(kakaoApiClient.getJwks());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadKeys(Map<String, Object> jwks) {
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (Map<String, Object> jwk : (List<Map<String, Object>>) jwks.get("keys")) {
+            if (!"RSA".equals(jwk.get("kty"))) continue;
+            try {
+                loaded.put((String) jwk.get("kid"), toRsaKey((String) jwk.get("n"), (String) jwk.get("e")));
+            } catch (Exception e) {
+                log.warn("JWKS 키 변환 실패: {}", jwk.get("kid"), e);
+            }
+        }
+        keys = Map.copyOf(loaded);
+        log.info("카카오 JWKS 갱신: {}개", loaded.size());
+    }
+
+    private PublicKey toRsaKey(String n, String e) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(n)),
+                new BigInteger(1, decoder.decode(e)));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+}
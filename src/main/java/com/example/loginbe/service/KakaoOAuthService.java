@@ -4,16 +4,14 @@ import com.example.loginbe.dto.LoginResponseDto;
 import com.example.loginbe.entity.User;
 import com.example.loginbe.repository.UserRepository;
 import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.SubjectType;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
 
@@ -24,7 +22,8 @@ public class KakaoOAuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final KakaoApiClient kakaoApiClient;
+    private final KakaoIdTokenVerifier kakaoIdTokenVerifier;
 
     @Value("${kakao.client-id}")
     private String clientId;
@@ -32,13 +31,24 @@ public class KakaoOAuthService {
     @Value("${kakao.redirect-uri}")
     private String redirectUri;
 
-    public LoginResponseDto kakaoLogin(String code, HttpServletResponse response) {
-        String kakaoAccessToken = getKakaoAccessToken(code);
-        Map<String, Object> userInfo = getKakaoUserInfo(kakaoAccessToken);
-
-        String socialId = String.valueOf(userInfo.get("id"));
-        Map<String, Object> kakaoAccount = (Map<String, Object>) userInfo.get("kakao_account");
-        String email = (String) kakaoAccount.get("email");
+    public LoginResponseDto kakaoLogin(String code, String device, HttpServletResponse response) {
+        Map<String, Object> tokenResponse = kakaoApiClient.exchangeToken(clientId, redirectUri, code);
+        String idToken = (String) tokenResponse.get("id_token");
+
+        String socialId;
+        String email;
+        if (kakaoIdTokenVerifier.isEnabled() && idToken != null) {
+            // OIDC: id_token을 로컬에서 검증하고 바로 사용 (사용자 정보 API 호출 생략)
+            Claims claims = kakaoIdTokenVerifier.verify(idToken);
+            socialId = claims.getSubject();
+            email = claims.get("email", String.class);
+        } else {
+            Map<String, Object> userInfo = getKakaoUserInfo((String) tokenResponse.get("access_token"));
+
+            socialId = String.valueOf(userInfo.get("id"));
+            Map<String, Object> kakaoAccount = (Map<String, Object>) userInfo.get("kakao_account");
+            email = (String) kakaoAccount.get("email");
+        }
 
         return userRepository.findBySocialIdAndProvider(socialId, "kakao")
                 .map(user -> {
@@ -50,7 +60,7 @@ public class KakaoOAuthService {
                                 .build();
                     }
                     // 정상 로그인 처리
-                    return generateLoginResponse(user, response);
+                    return generateLoginResponse(user, device, response);
                 })
                 .orElseGet(() -> {
                     // 신규 소셜 유저 저장
@@ -63,39 +73,14 @@ public class KakaoOAuthService {
     }
 
     // 중복 코드를 줄이기 위한 토큰 발급 메서드
-    private LoginResponseDto generateLoginResponse(User user, HttpServletResponse response) {
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getSocialId(), user.getRole());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getSocialId(), user.getRole());
-        setRefreshTokenCookie(response, refreshToken);
-        return new LoginResponseDto(accessToken, null);
-    }
-
-    private String getKakaoAccessToken(String code) {
-        String tokenUrl = "https://kauth.kakao.com/oauth/token";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code");
-        params.add("client_id", clientId);
-        params.add("redirect_uri", redirectUri);
-        params.add("code", code);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
-
-        return (String) response.getBody().get("access_token");
+    private LoginResponseDto generateLoginResponse(User user, String device, HttpServletResponse response) {
+        LoginResponseDto tokens = jwtTokenProvider.issueTokens(user.getSocialId(), SubjectType.SOCIAL_ID, user.getRole(), device);
+        setRefreshTokenCookie(response, tokens.getRefreshToken());
+        return new LoginResponseDto(tokens.getAccessToken(), null);
     }
 
     private Map<String, Object> getKakaoUserInfo(String accessToken) {
-        String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-
-        HttpEntity<?> request = new HttpEntity<>(headers);
-        ResponseEntity<Map> response = restTemplate.exchange(userInfoUrl, HttpMethod.GET, request, Map.class);
-
-        return (Map<String, Object>) response.getBody();
+        return kakaoApiClient.getUserInfo(accessToken);
     }
 
     private void setRefreshTokenCookie(HttpServletResponse response, String refreshToken) {
@@ -0,0 +1,164 @@
+package com.example.loginbe.service;
+
+import com.example.loginbe.metrics.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// BCrypt 해싱 전용 스레드 풀
+// -> 로그인/회원가입이 몰려도 해싱은 정해진 스레드 수만큼만 CPU를 사용하고,
+//    토큰 재발급이나 인증된 API 호출 같은 다른 요청은 영향을 받지 않음
+// -> 대기열이 가득 차면 바로 503으로 거절
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    // 대기열에서 기다린 시간 포함
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${password.hashing.threads:0}") int threads,
+                                  @Value("${password.hashing.queue-capacity:200}") int queueCapacity,
+                                  @Value("${password.hashing.timeout-ms:5000}") long timeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        // 0이면 CPU 코어 수의 절반 (나머지 코어는 다른 요청 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.encodeTimer = Timer.builder("password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("op", "matches").register(meterRegistry);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(String rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return await(encodeAsync(rawPassword));
+        } finally {
+            ServerTiming.record(encodeTimer, ServerTiming.BCRYPT, start);
+        }
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return await(submit(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        } finally {
+            ServerTiming.record(matchesTimer, ServerTiming.BCRYPT, start);
+        }
+    }
+
+    // 저장된 해시의 cost가 현재 설정보다 낮은지 (해싱 없이 문자열만 확인)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 여러 비밀번호를 병렬로 해싱할 때 사용
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // CompletableFuture를 취소해도 실행 중인 작업은 멈추지 않으므로 대기열에 들어간 작업을 따로 보관
+        FutureTask<Void> hashing = new FutureTask<>(() -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                completed.increment();
+            }
+        }, null);
+        try {
+            executor.execute(hashing);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해싱 대기열 초과: queue={}", executor.getQueue().size());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 타임아웃 등으로 취소되면 아직 시작하지 않은 작업은 대기열에서 빼서 해싱하지 않음
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled() && hashing.cancel(false)) {
+                executor.remove(hashing);
+            }
+        });
+        return future;
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            future.cancel(false);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timedOut.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.loginbe.service;
+
+import com.example.loginbe.dto.TokenIntrospectionDto;
+import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.ParsedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 게이트웨이/내부 서비스용 토큰 일괄 검사
+// - 서명 검증은 토큰 수가 많으면 병렬로 (검증 캐시에 있으면 바로 반환)
+// - 블랙리스트는 유효한 토큰만 모아서 한 번에 확인 (strict 모드에서도 Redis 호출 한 번)
+@Service
+public class TokenIntrospectionService {
+
+    // 이보다 적으면 병렬 처리 비용이 검증 비용보다 큼
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int maxTokens;
+
+    public TokenIntrospectionService(JwtTokenProvider jwtTokenProvider,
+                                     @Value("${introspection.max-tokens:100}") int maxTokens) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.maxTokens = maxTokens;
+    }
+
+    public List<TokenIntrospectionDto> introspect(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) return List.of();
+        if (tokens.size() > maxTokens) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + maxTokens + "개까지 조회할 수 있습니다.");
+        }
+
+        List<ParsedToken> parsed = tokens.size() >= PARALLEL_THRESHOLD
+                ? tokens.parallelStream().map(jwtTokenProvider::parse).toList()
+                : tokens.stream().map(jwtTokenProvider::parse).toList();
+
+        // 서명이 유효한 토큰만 블랙리스트 확인
+        List<Integer> validIndexes = new ArrayList<>();
+        List<String> validTokens = new ArrayList<>();
+        List<ParsedToken> validParsed = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (parsed.get(i).isValid()) {
+                validIndexes.add(i);
+                validTokens.add(tokens.get(i));
+                validParsed.add(parsed.get(i));
+            }
+        }
+        boolean[] revoked = new boolean[tokens.size()];
+        boolean[] blacklisted = jwtTokenProvider.isBlacklisted(validTokens, validParsed);
+        for (int i = 0; i < blacklisted.length; i++) {
+            revoked[validIndexes.get(i)] = blacklisted[i];
+        }
+
+        List<TokenIntrospectionDto> results = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            results.add(toDto(parsed.get(i), revoked[i]));
+        }
+        return results;
+    }
+
+    private TokenIntrospectionDto toDto(ParsedToken parsed, boolean revoked) {
+        if (parsed.getStatus() == ParsedToken.Status.INVALID) {
+            return new TokenIntrospectionDto(false, TokenIntrospectionDto.Status.INVALID, null, null, null, null);
+        }
+        TokenIntrospectionDto.Status status = parsed.isExpired() ? TokenIntrospectionDto.Status.EXPIRED
+                : revoked ? TokenIntrospectionDto.Status.REVOKED
+                : TokenIntrospectionDto.Status.VALID;
+        return new TokenIntrospectionDto(status == TokenIntrospectionDto.Status.VALID, status,
+                parsed.getSubject(),
+                parsed.getSubjectType() == null ? null : parsed.getSubjectType().getClaimValue(),
+                parsed.getRole(),
+                parsed.getExpiration() == null ? null : parsed.getExpiration().getTime() / 1000);
+    }
+}
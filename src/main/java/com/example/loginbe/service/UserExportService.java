@@ -0,0 +1,129 @@
+package com.example.loginbe.service;
+
+import com.example.loginbe.dto.UserSummaryDto;
+import com.example.loginbe.repository.UserJdbcDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+// 회원 전체 덤프 (NDJSON / CSV)
+// -> DB 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 테이블 크기와 관계없이 메모리 사용량이 일정
+// -> 모든 행에 id가 포함되므로 중간에 끊기면 마지막 id를 after로 넘겨 이어받기
+@Service
+public class UserExportService {
+
+    public enum Format {NDJSON, CSV}
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UserJdbcDao userJdbcDao;
+    private final int fetchSize;
+
+    public UserExportService(UserJdbcDao userJdbcDao,
+                             @Value("${export.users.fetch-size:1000}") int fetchSize) {
+        this.userJdbcDao = userJdbcDao;
+        this.fetchSize = fetchSize;
+    }
+
+    public long export(Format format, long afterId, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        // 이어받기(after > 0)일 때는 CSV 헤더를 다시 쓰지 않음 -> 이전 파일 뒤에 그대로 붙일 수 있음
+        if (format == Format.CSV && afterId == 0) {
+            writer.write("id,username,email,phone,provider,role\n");
+        }
+
+        long[] count = {0};
+        try {
+            userJdbcDao.streamSummaries(afterId, fetchSize, user -> {
+                try {
+                    if (format == Format.CSV) writeCsv(writer, user);
+                    else writeJson(writer, user);
+                    count[0]++;
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊으면 여기서 중단 -> 커서/커넥션도 바로 반환됨
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+        return count[0];
+    }
+
+    private void writeJson(Writer writer, UserSummaryDto user) throws IOException {
+        writer.write("{\"id\":");
+        writer.write(Long.toString(user.getId()));
+        writeJsonField(writer, "username", user.getUsername());
+        writeJsonField(writer, "email", user.getEmail());
+        writeJsonField(writer, "phone", user.getPhone());
+        writeJsonField(writer, "provider", user.getProvider());
+        writeJsonField(writer, "role", user.getRole());
+        writer.write("}\n");
+    }
+
+    private void writeJsonField(Writer writer, String name, String value) throws IOException {
+        writer.write(",\"");
+        writer.write(name);
+        writer.write("\":");
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) writer.write(String.format("\\u%04x", (int) c));
+                    else writer.write(c);
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    private void writeCsv(Writer writer, UserSummaryDto user) throws IOException {
+        writer.write(Long.toString(user.getId()));
+        writeCsvField(writer, user.getUsername());
+        writeCsvField(writer, user.getEmail());
+        writeCsvField(writer, user.getPhone());
+        writeCsvField(writer, user.getProvider());
+        writeCsvField(writer, user.getRole());
+        writer.write('\n');
+    }
+
+    // RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) return;
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.loginbe.service;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 대량 가입 작업 하나의 진행 상황 (처리 중에도 다른 요청에서 조회)
+@Getter
+public class UserImportJob {
+
+    public enum Status {RUNNING, COMPLETED, FAILED}
+
+    public record RowError(long line, String reason) {}
+
+    // 응답이 너무 커지지 않도록 행 단위 오류는 앞에서부터 일부만 보관
+    private static final int MAX_ERRORS = 1000;
+
+    private final String id;
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+    private volatile Status status = Status.RUNNING;
+    private volatile String failureMessage;
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<RowError> errors = new ArrayList<>();
+
+    public UserImportJob(String id) {
+        this.id = id;
+    }
+
+    void addProcessed(long count) {
+        processed.addAndGet(count);
+    }
+
+    void addInserted(long count) {
+        inserted.addAndGet(count);
+    }
+
+    void addError(long line, String reason) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new RowError(line, reason));
+            }
+        }
+    }
+
+    void complete() {
+        finish(Status.COMPLETED);
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status result) {
+        finishedAt = Instant.now();
+        status = result;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getInserted() {
+        return inserted.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    // 초당 처리 행 수
+    public double getRowsPerSecond() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Math.max(1, end.toEpochMilli() - startedAt.toEpochMilli());
+        return processed.get() * 1000.0 / millis;
+    }
+}
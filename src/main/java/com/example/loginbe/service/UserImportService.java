@@ -0,0 +1,323 @@
+package com.example.loginbe.service;
+
+import com.example.loginbe.entity.User;
+import com.example.loginbe.repository.UserJdbcDao;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 대량 회원 가입 (기존 서비스 회원 이전용)
+// CSV: username,email,phone,password[,provider,social_id] (첫 줄은 헤더)
+// - 파일을 한 줄씩 읽어 chunk 단위로 처리 (파일 전체를 메모리에 올리지 않음)
+// - chunk마다 email/phone/socialId 중복을 IN 조회 한 번씩으로 확인
+// - 비밀번호는 해싱 전용 풀에서 병렬 처리, 이미 BCrypt 해시면 그대로 사용
+// - 저장은 JDBC 배치 insert
+// signup과 달리 관리자 작업이므로 SMS 인증은 확인하지 않음
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final Duration FINISHED_JOB_TTL = Duration.ofHours(1);
+    private static final long REJECTED_BACKOFF_MS = 50;
+    private static final long MAX_REJECTED_BACKOFF_MS = 1_000;
+
+    private final UserJdbcDao userJdbcDao;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int hashWindow;
+
+    private final Map<String, UserImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public UserImportService(UserJdbcDao userJdbcDao,
+                             PasswordHashingService passwordHashingService,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${import.users.chunk-size:1000}") int chunkSize,
+                             @Value("${import.users.hash-window:64}") int hashWindow) {
+        this.userJdbcDao = userJdbcDao;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.hashWindow = hashWindow;
+    }
+
+    // 백그라운드로 실행하고 진행 상황은 getJob으로 조회, 끝나면 파일 삭제
+    public UserImportJob start(Path file) {
+        UserImportJob job = new UserImportJob(UUID.randomUUID().toString());
+        jobs.put(job.getId(), job);
+        executor.execute(() -> {
+            try {
+                importFile(file, job);
+            } finally {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("import 임시 파일 삭제 실패: {}", file, e);
+                }
+            }
+        });
+        return job;
+    }
+
+    public UserImportJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    public void importFile(Path file, UserImportJob job) {
+        // 파일 안에서의 중복 확인용 (DB 중복은 chunk마다 조회)
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenPhones = new HashSet<>();
+        Set<String> seenSocialIds = new HashSet<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine(); // 헤더
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 1;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                ImportRow row = parse(lineNumber, line, job);
+                if (row == null) {
+                    job.addProcessed(1);
+                    continue;
+                }
+                if (!seenEmails.add(row.user().getEmail())
+                        || !seenPhones.add(row.user().getPhone())
+                        || (row.user().getSocialId() != null && !seenSocialIds.add(row.user().getSocialId()))) {
+                    job.addError(lineNumber, "파일 안에서 중복된 회원입니다.");
+                    job.addProcessed(1);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, job);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, job);
+            }
+            job.complete();
+        } catch (Exception e) {
+            log.error("회원 import 실패: job={}", job.getId(), e);
+            job.fail(e.getMessage());
+        }
+
+        log.info("회원 import 종료: job={}, status={}, processed={}, inserted={}, failed={}, {} rows/s",
+                job.getId(), job.getStatus(), job.getProcessed(), job.getInserted(), job.getFailed(),
+                String.format("%.0f", job.getRowsPerSecond()));
+    }
+
+    private void processChunk(List<ImportRow> chunk, UserImportJob job) {
+        List<ImportRow> rows = removeExisting(chunk, job);
+        hashPasswords(rows);
+
+        List<User> users = rows.stream().map(ImportRow::user).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> userJdbcDao.batchInsert(users, chunkSize));
+            job.addInserted(users.size());
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 일반 가입 등으로 같은 값이 먼저 들어온 경우 -> 이 chunk만 한 건씩 다시 저장
+            log.warn("배치 insert 중복 발생, 한 건씩 재시도: job={}", job.getId());
+            for (ImportRow row : rows) {
+                try {
+                    userJdbcDao.insert(row.user());
+                    job.addInserted(1);
+                } catch (DataIntegrityViolationException ex) {
+                    job.addError(row.line(), "이미 가입된 회원입니다.");
+                }
+            }
+        }
+        job.addProcessed(chunk.size());
+    }
+
+    private List<ImportRow> removeExisting(List<ImportRow> chunk, UserImportJob job) {
+        Set<String> emails = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        Set<String> socialIds = new HashSet<>();
+        for (ImportRow row : chunk) {
+            emails.add(row.user().getEmail());
+            phones.add(row.user().getPhone());
+            if (row.user().getSocialId() != null) socialIds.add(row.user().getSocialId());
+        }
+
+        Set<String> existingEmails = userJdbcDao.findExistingEmails(emails);
+        Set<String> existingPhones = userJdbcDao.findExistingPhones(phones);
+        Set<String> existingSocialIds = userJdbcDao.findExistingSocialIds(socialIds);
+
+        List<ImportRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingEmails.contains(row.user().getEmail())) {
+                job.addError(row.line(), "이미 사용 중인 이메일입니다.");
+            } else if (existingPhones.contains(row.user().getPhone())) {
+                job.addError(row.line(), "이미 사용 중인 전화번호 입니다.");
+            } else if (row.user().getSocialId() != null && existingSocialIds.contains(row.user().getSocialId())) {
+                job.addError(row.line(), "이미 연동된 소셜 계정입니다.");
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    // 해싱 풀의 대기열을 혼자 다 채우지 않도록 hashWindow 개씩 나눠서 제출
+    // -> 일반 로그인/가입 요청의 해싱도 함께 처리될 수 있음
+    private void hashPasswords(List<ImportRow> rows) {
+        for (int from = 0; from < rows.size(); from += hashWindow) {
+            List<ImportRow> window = rows.subList(from, Math.min(from + hashWindow, rows.size()));
+            List<CompletableFuture<Void>> futures = new ArrayList<>(window.size());
+            for (ImportRow row : window) {
+                if (isBcryptHash(row.user().getPassword())) continue;
+                futures.add(submitHash(row.user(), futures));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    // 대기열이 가득 차서 거절(503)되면 import 전체를 실패시키지 않고 자리가 날 때까지 기다렸다가 다시 제출
+    // - 먼저 제출한 해싱이 있으면 하나가 끝날 때까지 대기 (그만큼 대기열이 빔)
+    // - 없으면(다른 요청이 대기열을 채움) 백오프 후 재시도
+    private CompletableFuture<Void> submitHash(User user, List<CompletableFuture<Void>> submitted) {
+        long backoff = REJECTED_BACKOFF_MS;
+        while (true) {
+            try {
+                return passwordHashingService.encodeAsync(user.getPassword()).thenAccept(user::setPassword);
+            } catch (ResponseStatusException e) {
+                CompletableFuture<Void> running = submitted.stream().filter(f -> !f.isDone()).findFirst().orElse(null);
+                if (running != null) {
+                    running.join();
+                    continue;
+                }
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("비밀번호 해싱 대기 중 중단되었습니다.", ie);
+                }
+                backoff = Math.min(backoff * 2, MAX_REJECTED_BACKOFF_MS);
+            }
+        }
+    }
+
+    private boolean isBcryptHash(String password) {
+        return password.length() == 60
+                && (password.startsWith("$2a$") || password.startsWith("$2b$") || password.startsWith("$2y$"));
+    }
+
+    private ImportRow parse(long lineNumber, String line, UserImportJob job) {
+        List<String> fields = parseCsvLine(line);
+        if (fields == null || fields.size() < 4) {
+            job.addError(lineNumber, "형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        String username = blankToNull(fields.get(0));
+        String email = blankToNull(fields.get(1));
+        String phone = blankToNull(fields.get(2));
+        String password = blankToNull(fields.get(3));
+        String provider = fields.size() > 4 ? blankToNull(fields.get(4)) : null;
+        String socialId = fields.size() > 5 ? blankToNull(fields.get(5)) : null;
+
+        if (username == null || email == null || phone == null || password == null) {
+            job.addError(lineNumber, "username, email, phone, password는 필수입니다.");
+            return null;
+        }
+        if (email.indexOf('@') <= 0) {
+            job.addError(lineNumber, "이메일 형식이 올바르지 않습니다.");
+            return null;
+        }
+        if ((provider == null) != (socialId == null)) {
+            job.addError(lineNumber, "provider와 social_id는 함께 입력해야 합니다.");
+            return null;
+        }
+
+        User user = User.builder()
+                .username(username)
+                .email(email)
+                .phone(phone)
+                .password(password)
+                .provider(provider)
+                .socialId(socialId)
+                .role("ROLE_USER")
+                .build();
+        return new ImportRow(lineNumber, user);
+    }
+
+    // RFC 4180 한 줄 파싱 (따옴표 안의 줄바꿈은 지원하지 않음), 따옴표가 안 닫히면 null
+    private List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) return null;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String blankToNull(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    // 끝난 작업은 일정 시간 뒤 정리
+    @Scheduled(fixedDelay = 600_000)
+    public void purgeFinishedJobs() {
+        Instant threshold = Instant.now().minus(FINISHED_JOB_TTL);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record ImportRow(long line, User user) {}
+}
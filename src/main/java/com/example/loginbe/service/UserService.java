@@ -5,26 +5,28 @@ import com.example.loginbe.dto.LoginResponseDto;
 import com.example.loginbe.dto.UserRequestDto;
 import com.example.loginbe.entity.User;
 import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
 import com.example.loginbe.repository.UserRepository;
 import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.SubjectType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisDao redisDao;
 
-    public LoginResponseDto signup(UserRequestDto req) {
+    // device: 로그인 세션 목록에 표시할 기기 정보 (User-Agent)
+    public LoginResponseDto signup(UserRequestDto req, String device) {
         if (userRepository.findByPhone(req.getPhone()).isPresent()) {
             throw new RuntimeException("이미 사용 중인 전화번호 입니다.");
         }
 
-        String verified = (String) redisDao.getValues("SMS_VERIFIED:" + req.getPhone());
+        String verified = redisDao.getValues(RedisKeys.smsVerified(req.getPhone()));
         if (verified == null || !verified.equals("true")) {
             throw new RuntimeException("휴대폰 인증이 완료되지 않았습니다.");
         }
@@ -32,32 +34,32 @@ public class UserService {
         User user = User.builder()
                 .username(req.getUsername())
                 .email(req.getEmail())
-                .password(passwordEncoder.encode(req.getPassword()))
+                .password(passwordHashingService.encode(req.getPassword()))
                 .phone(req.getPhone())
                 .role("ROLE_USER")
                 .build();
 
         userRepository.save(user);
 
-        redisDao.deleteValues("SMS_VERIFIED:" + req.getPhone());
+        redisDao.deleteValues(RedisKeys.smsVerified(req.getPhone()));
 
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getRole());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail(), user.getRole());
-
-        return new LoginResponseDto(accessToken, refreshToken);
+        return jwtTokenProvider.issueTokens(user.getEmail(), SubjectType.EMAIL, user.getRole(), device);
     }
 
-    public LoginResponseDto login(LoginRequestDto req) {
+    public LoginResponseDto login(LoginRequestDto req, String device) {
         User user = userRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        if (!passwordEncoder.matches(req.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(req.getPassword(), user.getPassword())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getRole());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail(), user.getRole());
+        // 설정된 cost가 올라갔으면 평문을 알고 있는 지금 다시 해싱해서 저장
+        if (passwordHashingService.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordHashingService.encode(req.getPassword()));
+            userRepository.save(user);
+        }
 
-        return new LoginResponseDto(accessToken, refreshToken);
+        return jwtTokenProvider.issueTokens(user.getEmail(), SubjectType.EMAIL, user.getRole(), device);
     }
 }
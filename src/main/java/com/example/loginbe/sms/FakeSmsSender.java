@@ -0,0 +1,72 @@
+package com.example.loginbe.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// 실제 업체 연동 전 / 로컬, 테스트용 발송기
+// - 발송 대신 로그 출력
+// - 호출 지연과 실패 비율을 설정해 처리량, backpressure, 재시도를 확인할 수 있음
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.provider", havingValue = "fake", matchIfMissing = true)
+public class FakeSmsSender implements SmsSender {
+
+    private final long latencyMillis;
+    private final double failureRate;
+    private final int maxBatchSize;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+
+    public FakeSmsSender(@Value("${sms.fake.latency-ms:50}") long latencyMillis,
+                         @Value("${sms.fake.failure-rate:0}") double failureRate,
+                         @Value("${sms.fake.max-batch-size:100}") int maxBatchSize) {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public Set<String> send(List<SmsMessage> messages) {
+        calls.increment();
+        try {
+            // 업체 API 왕복 시간
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("SMS 발송이 중단되었습니다.", e);
+        }
+
+        Set<String> failed = new HashSet<>();
+        for (SmsMessage message : messages) {
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                failed.add(message.id());
+                continue;
+            }
+            log.info("[SMS] 휴대폰: {} / {}", message.phone(), message.text());
+        }
+        sent.add(messages.size() - failed.size());
+        return failed;
+    }
+
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.loginbe.sms;
+
+// 메시지별 발송 상태 (Redis에는 "상태|시도 횟수|갱신 시각|오류" 문자열로 저장)
+public record SmsDeliveryStatus(Status status, int attempts, long updatedAt, String error) {
+
+    public enum Status {
+        QUEUED,
+        RETRYING,
+        SENT,
+        FAILED
+    }
+
+    static SmsDeliveryStatus of(Status status, int attempts, String error) {
+        return new SmsDeliveryStatus(status, attempts, System.currentTimeMillis(), error);
+    }
+
+    String toValue() {
+        return status + "|" + attempts + "|" + updatedAt + "|" + (error == null ? "" : error);
+    }
+
+    // 형식이 맞지 않으면 null
+    static SmsDeliveryStatus fromValue(String value) {
+        String[] parts = value.split("\\|", 4);
+        if (parts.length < 4) return null;
+        try {
+            return new SmsDeliveryStatus(Status.valueOf(parts[0]), Integer.parseInt(parts[1]),
+                    Long.parseLong(parts[2]), parts[3].isEmpty() ? null : parts[3]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
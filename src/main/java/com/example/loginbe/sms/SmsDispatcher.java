@@ -0,0 +1,375 @@
+package com.example.loginbe.sms;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import com.example.loginbe.repository.RedisScripts;
+import com.example.loginbe.security.util.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// SMS 비동기 발송
+// - enqueue: Redis Stream에 기록하고 바로 반환 -> 요청 스레드는 발송 업체 응답을 기다리지 않음
+//   모든 노드를 합쳐 대기 중인 메시지가 max-backlog 이상이면 503 (업체 장애 시 무한정 쌓이지 않도록)
+// - 노드마다 consumer group으로 Stream을 읽어 크기 제한 큐에 넣고, 워커가 배치로 묶어 업체 API 호출
+//   큐가 가득 차면 Stream 읽기가 멈춤 (backpressure)
+// - 실패하면 지수 백오프로 재시도, max-attempts를 넘으면 FAILED
+// - 발송이 끝날 때까지 Stream의 pending 목록에 남아 있으므로 노드가 죽어도 다른 노드가 claim-idle 이후 가져가서 발송
+//   자기 consumer의 pending 메시지는 큐/재시도 대기 중이므로 회수하지 않음 (중복 발송 방지)
+@Slf4j
+@Component
+public class SmsDispatcher {
+
+    private static final String GROUP = "sms-dispatcher";
+
+    private final SmsProperties properties;
+    private final SmsSender sender;
+    private final RedisDao redisDao;
+    private final RedisConnectionFactory connectionFactory;
+    private final int batchSize;
+    // 노드별 consumer 이름 (재시작하면 새 이름, 이전 이름의 pending 메시지는 claim으로 회수한 뒤 consumer 삭제)
+    private final String consumerName = "node-" + TokenDigest.newTokenId();
+
+    private final BlockingQueue<SmsMessage> queue;
+    private final ExecutorService workerPool;
+    private final ScheduledExecutorService retryScheduler;
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    private final Counter queuedCounter;
+    private final Counter rejectedCounter;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    // 업체 API 호출 한 번 (배치 단위)
+    private final Timer sendTimer;
+
+    public SmsDispatcher(SmsProperties properties,
+                         SmsSender sender,
+                         RedisDao redisDao,
+                         RedisConnectionFactory connectionFactory,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sender = sender;
+        this.redisDao = redisDao;
+        this.connectionFactory = connectionFactory;
+        this.batchSize = Math.max(1, Math.min(properties.getBatchSize(), sender.maxBatchSize()));
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        // 워커는 대부분 업체 응답을 기다리므로 가상 스레드
+        this.workerPool = Executors.newFixedThreadPool(properties.getWorkers(),
+                Thread.ofVirtual().name("sms-worker-", 1).factory());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sms-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.queuedCounter = dispatchCounter(meterRegistry, "queued");
+        this.rejectedCounter = dispatchCounter(meterRegistry, "rejected");
+        this.sentCounter = dispatchCounter(meterRegistry, "sent");
+        this.retryCounter = dispatchCounter(meterRegistry, "retry");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+        this.sendTimer = Timer.builder("sms.provider").register(meterRegistry);
+        Gauge.builder("sms.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    private static Counter dispatchCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("sms.dispatch").tag("outcome", outcome).register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        redisDao.createStreamGroup(properties.getStream(), GROUP);
+
+        StreamMessageListenerContainer.StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(properties.getPollTimeout())
+                        .batchSize(batchSize)
+                        .errorHandler(e -> log.warn("SMS 대기열 읽기 실패: {}", e.getMessage()))
+                        .build();
+        container = StreamMessageListenerContainer.create(connectionFactory, options);
+        // 발송이 끝난 뒤 직접 XACK 하고, Redis 오류가 나도 구독을 유지
+        container.register(StreamMessageListenerContainer.StreamReadRequest
+                        .builder(StreamOffset.create(properties.getStream(), ReadOffset.lastConsumed()))
+                        .cancelOnError(e -> false)
+                        .consumer(Consumer.from(GROUP, consumerName))
+                        .autoAcknowledge(false)
+                        .build(),
+                this::onRecord);
+        container.start();
+
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workerPool.execute(this::runWorker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 처리 중이던 메시지는 pending 상태로 남아 다른 노드(또는 재시작 후)가 가져감
+        if (container != null) {
+            container.stop();
+        }
+        workerPool.shutdownNow();
+        retryScheduler.shutdownNow();
+    }
+
+    // 발송 요청 등록, 반환: 메시지 id (발송 상태 조회용)
+    public String enqueue(String phone, String text) {
+        String id = TokenDigest.newTokenId();
+        SmsDeliveryStatus queued = SmsDeliveryStatus.of(SmsDeliveryStatus.Status.QUEUED, 0, null);
+
+        Long accepted = redisDao.execute(RedisScripts.SMS_ENQUEUE,
+                List.of(properties.getStream(), statusKey(id)),
+                id, phone, text,
+                String.valueOf(properties.getMaxBacklog()),
+                String.valueOf(properties.getStatusTtl().toMillis()),
+                queued.toValue());
+        if (accepted == null || accepted == 0) {
+            rejectedCounter.increment();
+            log.warn("SMS 발송 대기 건수 초과: max-backlog={}", properties.getMaxBacklog());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "인증번호 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        queuedCounter.increment();
+        return id;
+    }
+
+    // 상태가 없거나(잘못된 id, 보관 기간 경과) 형식이 맞지 않으면 null
+    public SmsDeliveryStatus getStatus(String messageId) {
+        // 발송 상태는 복제본에서 조회 (enqueue 직후 잠깐은 없을 수 있음)
+        String value = redisDao.getReplicaValues(statusKey(messageId));
+        return value == null ? null : SmsDeliveryStatus.fromValue(value);
+    }
+
+    // Stream에서 읽은 메시지를 큐에 넣음 (큐가 가득 차면 여기서 대기 -> 다음 읽기도 멈춤)
+    private void onRecord(MapRecord<String, String, String> record) {
+        SmsMessage message = toMessage(record, 0);
+        if (message == null) return;
+        try {
+            queue.put(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private SmsMessage toMessage(MapRecord<String, String, String> record, int attempts) {
+        Map<String, String> value = record.getValue();
+        if (value == null || value.get("id") == null) return null;
+        return new SmsMessage(value.get("id"), value.get("phone"), value.get("text"), record.getId().getValue(), attempts);
+    }
+
+    private void runWorker() {
+        List<SmsMessage> batch = new ArrayList<>(batchSize);
+        long lingerNanos = properties.getLinger().toNanos();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                // 배치가 찰 때까지 linger 동안 더 모음
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) continue;
+                    SmsMessage next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 발송 API 외의 예외: 메시지는 pending으로 남아 재시작 후 다른 노드가 claim-idle 이후 다시 발송
+                log.warn("SMS 발송 처리 실패: {}건 - {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<SmsMessage> batch) {
+        Set<String> failedIds = null;
+        String error = null;
+        long start = System.nanoTime();
+        try {
+            failedIds = sender.send(batch);
+        } catch (Exception e) {
+            // 호출 자체 실패 -> 배치 전체 재시도
+            error = e.getMessage();
+            log.warn("SMS 발송 API 호출 실패: {}건 - {}", batch.size(), error);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        List<SmsMessage> completed = new ArrayList<>(batch.size());
+        List<SmsDeliveryStatus> statuses = new ArrayList<>(batch.size());
+        for (SmsMessage message : batch) {
+            SmsMessage attempted = message.nextAttempt();
+            if (failedIds != null && !failedIds.contains(message.id())) {
+                sentCounter.increment();
+                completed.add(attempted);
+                statuses.add(SmsDeliveryStatus.of(SmsDeliveryStatus.Status.SENT, attempted.attempts(), null));
+            } else if (attempted.attempts() < properties.getMaxAttempts()) {
+                scheduleRetry(attempted, error);
+            } else {
+                failedCounter.increment();
+                completed.add(attempted);
+                statuses.add(SmsDeliveryStatus.of(SmsDeliveryStatus.Status.FAILED, attempted.attempts(),
+                        error != null ? error : "발송 실패"));
+            }
+        }
+        complete(completed, statuses);
+    }
+
+    // 발송이 끝난 메시지의 XACK + XDEL + 상태 갱신을 스크립트 한 번으로 처리
+    // Redis 오류로 실패하면 다시 발송하지 않고 완료 처리만 백오프 후 재시도
+    private void complete(List<SmsMessage> messages, List<SmsDeliveryStatus> statuses) {
+        if (messages.isEmpty()) return;
+        try {
+            executeComplete(messages, statuses);
+        } catch (Exception e) {
+            log.warn("SMS 발송 완료 처리 실패: {}건 - {}", messages.size(), e.getMessage());
+            retryComplete(messages, statuses, properties.getRetryBackoff().toMillis());
+        }
+    }
+
+    private void retryComplete(List<SmsMessage> messages, List<SmsDeliveryStatus> statuses, long delay) {
+        retryScheduler.schedule(() -> {
+            try {
+                executeComplete(messages, statuses);
+            } catch (Exception e) {
+                retryComplete(messages, statuses, Math.min(delay * 2, properties.getMaxRetryBackoff().toMillis()));
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void executeComplete(List<SmsMessage> messages, List<SmsDeliveryStatus> statuses) {
+
+        List<String> keys = new ArrayList<>(messages.size() + 1);
+        List<String> args = new ArrayList<>(messages.size() * 2 + 2);
+        keys.add(properties.getStream());
+        args.add(GROUP);
+        args.add(String.valueOf(properties.getStatusTtl().toMillis()));
+        for (int i = 0; i < messages.size(); i++) {
+            keys.add(statusKey(messages.get(i).id()));
+            args.add(messages.get(i).recordId());
+            args.add(statuses.get(i).toValue());
+        }
+        redisDao.execute(RedisScripts.SMS_COMPLETE, keys, args.toArray(String[]::new));
+    }
+
+    private void scheduleRetry(SmsMessage message, String error) {
+        retryCounter.increment();
+        try {
+            redisDao.setValues(statusKey(message.id()),
+                    SmsDeliveryStatus.of(SmsDeliveryStatus.Status.RETRYING, message.attempts(), error).toValue(),
+                    properties.getStatusTtl());
+        } catch (Exception e) {
+            // 상태는 조회용이므로 재시도는 그대로 진행
+            log.warn("SMS 재시도 상태 저장 실패: {} - {}", message.id(), e.getMessage());
+        }
+
+        long backoff = properties.getRetryBackoff().toMillis() << Math.min(message.attempts() - 1, 20);
+        offerLater(message, Math.min(backoff, properties.getMaxRetryBackoff().toMillis()));
+    }
+
+    // 큐가 가득 차면 다시 기다렸다가 넣음
+    // (pending 메시지는 이 consumer 소유로 남아 있어 claim으로는 회수되지 않음)
+    private void offerLater(SmsMessage message, long delay) {
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(message)) {
+                log.debug("SMS 재시도 큐 초과: {}", message.id());
+                offerLater(message, properties.getRetryBackoff().toMillis());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    // 다른 노드(또는 재시작 전의 이 노드)가 가져간 뒤 처리하지 못한 메시지 회수
+    // - 이 노드의 pending 메시지는 큐, 워커, 재시도 대기 중 하나에 있으므로 제외
+    // - 시도 횟수는 Stream의 전달 횟수로 이어서 셈 -> max-attempts 이상이면 발송하지 않고 FAILED
+    @Scheduled(fixedDelayString = "${sms.claim-interval-ms:30000}",
+            initialDelayString = "${sms.claim-interval-ms:30000}")
+    public void claimIdle() {
+        int capacity = queue.remainingCapacity();
+        if (capacity == 0) return;
+
+        try {
+            List<PendingMessage> pending = redisDao.getIdlePendingMessages(
+                    properties.getStream(), GROUP, consumerName, properties.getClaimIdle(), capacity);
+            if (pending.isEmpty()) return;
+
+            Map<String, Integer> deliveries = new HashMap<>();
+            List<RecordId> ids = new ArrayList<>(pending.size());
+            for (PendingMessage message : pending) {
+                deliveries.put(message.getIdAsString(), (int) message.getTotalDeliveryCount());
+                ids.add(message.getId());
+            }
+
+            List<SmsMessage> exhausted = new ArrayList<>();
+            List<SmsDeliveryStatus> statuses = new ArrayList<>();
+            // 그 사이 다른 노드가 먼저 가져갔거나 완료한 메시지는 결과에서 빠짐
+            for (MapRecord<String, String, String> record : redisDao.claimStreamRecords(
+                    properties.getStream(), GROUP, consumerName, properties.getClaimIdle(), ids)) {
+                SmsMessage message = toMessage(record, deliveries.getOrDefault(record.getId().getValue(), 0));
+                if (message == null) continue;
+                if (message.attempts() >= properties.getMaxAttempts()) {
+                    failedCounter.increment();
+                    exhausted.add(message);
+                    statuses.add(SmsDeliveryStatus.of(SmsDeliveryStatus.Status.FAILED, message.attempts(),
+                            "발송 처리 중 중단"));
+                } else if (!queue.offer(message)) {
+                    offerLater(message, properties.getRetryBackoff().toMillis());
+                }
+            }
+            complete(exhausted, statuses);
+        } catch (Exception e) {
+            log.warn("SMS pending 메시지 회수 실패: {}", e.getMessage());
+        }
+    }
+
+    // 종료된 노드의 consumer가 group에 계속 쌓이지 않도록 pending 메시지를 모두 회수한 consumer 삭제
+    @Scheduled(fixedDelayString = "${sms.claim-interval-ms:30000}",
+            initialDelayString = "${sms.claim-interval-ms:30000}")
+    public void deleteIdleConsumers() {
+        try {
+            int deleted = redisDao.deleteIdleStreamConsumers(properties.getStream(), GROUP, consumerName,
+                    properties.getConsumerIdle());
+            if (deleted > 0) {
+                log.info("SMS consumer 정리: {}개", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("SMS consumer 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private String statusKey(String messageId) {
+        return RedisKeys.smsStatus(properties.getStream(), messageId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.loginbe.sms;
+
+// 발송할 SMS 한 건
+// recordId: Redis Stream 레코드 id (발송 완료 시 XACK/XDEL), attempts: 지금까지 발송을 시도한 횟수
+public record SmsMessage(String id, String phone, String text, String recordId, int attempts) {
+
+    SmsMessage nextAttempt() {
+        return new SmsMessage(id, phone, text, recordId, attempts + 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.loginbe.sms;
+
+import com.example.loginbe.repository.RedisKeys;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// application.yml의 sms 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sms")
+public class SmsProperties {
+
+    // 발송 대기열 Stream 키
+    private String stream = RedisKeys.SMS_STREAM;
+
+    // 노드별 발송 워커 수 (동시에 진행되는 업체 API 호출 수)
+    private int workers = 4;
+
+    // 업체 API 한 번에 담을 최대 건수 (발송기의 최대 건수보다 크면 발송기 기준)
+    private int batchSize = 100;
+
+    // 배치가 찰 때까지 기다리는 최대 시간
+    private Duration linger = Duration.ofMillis(20);
+
+    // 노드 메모리 큐 크기 (가득 차면 Stream 읽기를 멈춤)
+    private int queueCapacity = 1000;
+
+    // 모든 노드를 합쳐 발송을 기다리는 최대 건수 (초과 시 503)
+    private int maxBacklog = 10_000;
+
+    private int maxAttempts = 5;
+
+    // 재시도 간격: retry-backoff * 2^(시도 횟수 - 1), 최대 max-retry-backoff
+    private Duration retryBackoff = Duration.ofMillis(500);
+    private Duration maxRetryBackoff = Duration.ofSeconds(10);
+
+    // 이 시간 동안 처리되지 않은 메시지는 다른 노드가 가져감 (max-retry-backoff보다 충분히 길어야 함)
+    private Duration claimIdle = Duration.ofSeconds(60);
+
+    // pending 메시지가 없는 consumer를 이 시간 동안 읽기가 없으면 consumer group에서 삭제
+    // (재시작할 때마다 consumer 이름이 새로 생기므로 종료된 노드의 consumer 정리)
+    private Duration consumerIdle = Duration.ofHours(1);
+
+    // Stream 읽기 대기 시간 (Redis 명령 타임아웃보다 짧아야 함)
+    private Duration pollTimeout = Duration.ofSeconds(1);
+
+    // 발송 상태 보관 기간
+    private Duration statusTtl = Duration.ofHours(1);
+}
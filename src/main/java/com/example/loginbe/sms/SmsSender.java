@@ -0,0 +1,16 @@
+package com.example.loginbe.sms;
+
+import java.util.List;
+import java.util.Set;
+
+// SMS 발송 업체 API
+// -> 대부분의 업체가 대량 발송 API를 제공하므로 한 번의 호출로 여러 건을 보냄
+public interface SmsSender {
+
+    // 한 번의 호출에 담을 수 있는 최대 건수
+    int maxBatchSize();
+
+    // 반환: 발송에 실패한 메시지 id (재시도 대상)
+    // 호출 자체가 실패하면(타임아웃, 5xx 등) 예외 -> 배치 전체 재시도
+    Set<String> send(List<SmsMessage> messages);
+}
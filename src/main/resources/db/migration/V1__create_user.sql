@@ -0,0 +1,15 @@
+-- 기존에 ddl-auto로 만들어진 DB는 baseline(1)으로 등록되어 이 스크립트를 건너뜀
+create table if not exists `user`
+(
+    id        bigint       not null auto_increment,
+    username  varchar(255),
+    email     varchar(255),
+    social_id varchar(255),
+    provider  varchar(255),
+    password  varchar(255),
+    role      varchar(255),
+    phone     varchar(255),
+    primary key (id),
+    constraint uk_user_social_id unique (social_id),
+    constraint uk_user_phone unique (phone)
+) engine = InnoDB;
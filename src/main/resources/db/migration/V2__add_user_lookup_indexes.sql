@@ -0,0 +1,7 @@
+-- findByEmail: 로그인, (auth-mode=database일 때) 인증된 모든 요청에서 조회
+-- 소셜 계정과 같은 이메일이 있을 수 있으므로 unique가 아닌 일반 인덱스
+create index idx_user_email on `user` (email);
+
+-- findBySocialIdAndProvider: 두 조건을 인덱스 안에서 모두 판정
+-- (findBySocialId는 기존 social_id unique 인덱스 사용)
+create index idx_user_social_id_provider on `user` (social_id, provider);
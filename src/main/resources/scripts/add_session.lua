@@ -0,0 +1,47 @@
+-- 로그인 세션 등록 + 만료된 세션 정리 + 최대 개수를 넘으면 가장 오래된 세션부터 제거
+-- KEYS[1]: auth:sess:<subject> (HASH, sid -> 세션 정보, 바이너리 또는 이전 텍스트 형식 "jti|생성시각|만료시각|기기")
+-- ARGV[1]: sid, ARGV[2]: 저장할 값, ARGV[3]: 현재 시각(ms), ARGV[4]: 최대 세션 수, ARGV[5]: 키 유효시간(ms)
+-- 반환: 제거된 세션 수
+local now = tonumber(ARGV[3])
+local max = tonumber(ARGV[4])
+local entries = redis.call('HGETALL', KEYS[1])
+local alive = {}
+local removed = 0
+
+-- 바이너리 형식의 8바이트 big-endian 시각 (ms 값은 2^53보다 작아 Lua 숫자로 정확히 표현됨)
+local function readLong(value, pos)
+    local result = 0
+    for i = pos, pos + 7 do
+        result = result * 256 + string.byte(value, i)
+    end
+    return result
+end
+
+for i = 1, #entries, 2 do
+    local value = entries[i + 1]
+    local created, expires
+    if string.byte(value, 1) == 1 and #value >= 18 then
+        -- 버전(1) + 생성시각(8) + 만료시각(8) + ...
+        created = readLong(value, 2)
+        expires = readLong(value, 10)
+    else
+        local _, _, c, e = string.find(value, '^[^|]*|(%d+)|(%d+)|')
+        created, expires = tonumber(c), tonumber(e)
+    end
+    if expires == nil or expires <= now then
+        redis.call('HDEL', KEYS[1], entries[i])
+        removed = removed + 1
+    else
+        table.insert(alive, { entries[i], created })
+    end
+end
+
+table.sort(alive, function(a, b) return a[2] < b[2] end)
+for i = 1, #alive + 1 - max do
+    redis.call('HDEL', KEYS[1], alive[i][1])
+    removed = removed + 1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+return removed
@@ -0,0 +1,26 @@
+-- refreshToken 블랙리스트 확인 + 저장된 값 비교
+-- KEYS[1]: auth:bl:<tokenId>
+-- KEYS[2]: sid가 있으면 auth:sess:<subject>, 없으면 auth:rt:<subject> (이전 토큰은 <subject>)
+-- ARGV[1]: 저장되어 있어야 하는 값 (jti, 이전 토큰은 원문), ARGV[2]: sid (없으면 빈 문자열)
+-- 반환: 0 정상, 1 블랙리스트, 2 불일치 (다른 기기에서 로그아웃/세션 제거 포함)
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 1
+end
+
+local stored
+if ARGV[2] ~= '' then
+    local session = redis.call('HGET', KEYS[2], ARGV[2])
+    if session and string.byte(session, 1) == 1 and #session >= 18 then
+        -- 바이너리 형식: 버전(1) + 생성시각(8) + 만료시각(8) + jti 길이(1) + jti + 기기
+        stored = string.sub(session, 19, 18 + string.byte(session, 18))
+    elseif session then
+        stored = string.match(session, '^([^|]*)')
+    end
+else
+    stored = redis.call('GET', KEYS[2])
+end
+
+if stored ~= ARGV[1] then
+    return 2
+end
+return 0
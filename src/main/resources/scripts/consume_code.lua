@@ -0,0 +1,10 @@
+-- 인증번호 비교 후 소모하고 인증 성공 플래그 저장
+-- KEYS[1]: SMS:{<phone>}, KEYS[2]: SMS_VERIFIED:{<phone>} (클러스터에서 같은 슬롯)
+-- ARGV[1]: 입력한 인증번호, ARGV[2]: 플래그 유효시간(ms)
+local saved = redis.call('GET', KEYS[1])
+if saved and saved == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    redis.call('SET', KEYS[2], 'true', 'PX', ARGV[2])
+    return 1
+end
+return 0
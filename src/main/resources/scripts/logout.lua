@@ -0,0 +1,14 @@
+-- 로그인 세션(또는 refreshToken 키) 삭제 + accessToken 블랙리스트 등록
+-- KEYS[1]: auth:bl:<tokenId>, KEYS[2]: auth:sess:<subject>
+-- KEYS[3..]: 삭제할 refreshToken 키 (sid가 없는 이전 토큰: auth:rt:<subject>, <subject>)
+-- ARGV[1]: 블랙리스트 유효시간(ms, accessToken 남은 시간), ARGV[2]: sid (있으면 이 세션만 삭제)
+if ARGV[2] ~= '' then
+    redis.call('HDEL', KEYS[2], ARGV[2])
+end
+for i = 3, #KEYS do
+    redis.call('DEL', KEYS[i])
+end
+if tonumber(ARGV[1]) > 0 then
+    redis.call('SET', KEYS[1], '1', 'PX', ARGV[1])
+end
+return 1
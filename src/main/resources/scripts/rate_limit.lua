@@ -0,0 +1,36 @@
+-- 슬라이딩 윈도우(요청 시각 로그) 방식 rate limit, 여러 키를 한 번에 판정
+-- KEYS[i]: rl:{<endpoint>:<dimension>:<value>} (클러스터에서는 키 하나씩 호출)
+-- ARGV[1]: 요청 id (ZSET member), ARGV[2i]: 허용 횟수, ARGV[2i+1]: 윈도우(ms)
+-- 반환: 0 허용 / 재시도까지 남은 시간(ms) * 256 + 초과한 키 번호 거절 (정수 하나로 반환)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local retry = 0
+local blocked = 0
+for i = 1, #KEYS do
+    local limit = tonumber(ARGV[2 * i])
+    local window = tonumber(ARGV[2 * i + 1])
+    redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - window)
+    if redis.call('ZCARD', KEYS[i]) >= limit then
+        local oldest = redis.call('ZRANGE', KEYS[i], 0, 0, 'WITHSCORES')
+        local wait = window
+        if oldest[2] then
+            wait = tonumber(oldest[2]) + window - now
+        end
+        if wait > retry then
+            retry = wait
+            blocked = i
+        end
+    end
+end
+
+if blocked > 0 then
+    return math.max(retry, 1) * 256 + blocked
+end
+
+-- 모든 키가 한도 이내일 때만 요청을 기록
+for i = 1, #KEYS do
+    redis.call('ZADD', KEYS[i], now, ARGV[1])
+    redis.call('PEXPIRE', KEYS[i], ARGV[2 * i + 1])
+end
+return 0
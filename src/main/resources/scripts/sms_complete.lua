@@ -0,0 +1,11 @@
+-- 발송이 끝난(성공 또는 최종 실패) 메시지를 Stream에서 제거 + 발송 상태 갱신
+-- KEYS[1]: {sms}:outbox (Stream), KEYS[2..]: 메시지별 상태 키
+-- ARGV[1]: consumer group, ARGV[2]: 상태 유효시간(ms)
+-- ARGV[3..]: 메시지별 (Stream 레코드 id, 상태 값) 쌍 (KEYS[i] -> ARGV[2i-1], ARGV[2i])
+for i = 2, #KEYS do
+    local recordId = ARGV[2 * i - 1]
+    redis.call('XACK', KEYS[1], ARGV[1], recordId)
+    redis.call('XDEL', KEYS[1], recordId)
+    redis.call('SET', KEYS[i], ARGV[2 * i], 'PX', ARGV[2])
+end
+return #KEYS - 1
@@ -0,0 +1,11 @@
+-- SMS 발송 요청을 Stream에 기록 + 발송 상태 저장
+-- KEYS[1]: {sms}:outbox (Stream), KEYS[2]: {sms}:outbox:status:<메시지 id>
+-- ARGV[1]: 메시지 id, ARGV[2]: 휴대폰 번호, ARGV[3]: 내용
+-- ARGV[4]: 최대 대기 건수, ARGV[5]: 상태 유효시간(ms), ARGV[6]: 상태 값
+-- 반환: 1 등록, 0 대기 건수 초과 (발송이 끝난 메시지는 Stream에서 삭제되므로 XLEN = 대기 건수)
+if redis.call('XLEN', KEYS[1]) >= tonumber(ARGV[4]) then
+    return 0
+end
+redis.call('XADD', KEYS[1], '*', 'id', ARGV[1], 'phone', ARGV[2], 'text', ARGV[3])
+redis.call('SET', KEYS[2], ARGV[6], 'PX', ARGV[5])
+return 1
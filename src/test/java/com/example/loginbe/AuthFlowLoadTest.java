@@ -0,0 +1,242 @@
+package com.example.loginbe;
+
+import com.example.loginbe.repository.RedisKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 HTTP 흐름 부하 테스트 (./gradlew loadTest)
+// send-code -> verify-code -> signup -> login -> /api/private/me -> refresh -> logout
+//
+// 1. 로컬 MySQL/Redis를 띄우고 앱을 loadtest 프로필로 실행
+//    ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+// 2. ./gradlew loadTest -Ploadtest.rate=20 -Ploadtest.duration=60
+//
+// - 오픈 워크로드: 응답 속도와 관계없이 초당 rate 개의 사용자 흐름을 포아송 간격으로 시작
+//   (응답이 느려져도 요청이 줄지 않으므로 서버가 밀리면 지연 시간에 그대로 드러남)
+// - 인증번호는 SMS 대신 앱과 같은 Redis의 SMS:<phone> 키에서 읽음
+// - 결과는 build/reports/loadtest/ 아래 JSON으로 저장 -> 변경 전후 비교
+@Tag("loadtest")
+class AuthFlowLoadTest {
+
+    private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private final double rate = Double.parseDouble(System.getProperty("loadtest.rate", "20"));
+    private final long durationSeconds = Long.parseLong(System.getProperty("loadtest.duration", "60"));
+    private final int maxInFlight = Integer.parseInt(System.getProperty("loadtest.max-in-flight", "5000"));
+    private final Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+    private final String redisHost = System.getProperty("loadtest.redis-host", "127.0.0.1");
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong completedFlows = new AtomicLong();
+    private final AtomicLong failedFlows = new AtomicLong();
+    private final AtomicLong droppedFlows = new AtomicLong();
+
+    private HttpClient httpClient;
+    private StringRedisTemplate redis;
+
+    @Test
+    @DisplayName("가입부터 로그아웃까지 전체 흐름 부하 테스트")
+    void run() throws Exception {
+        LettuceConnectionFactory factory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, 6379));
+        factory.afterPropertiesSet();
+        factory.start();
+        redis = new StringRedisTemplate(factory);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            Instant startedAt = Instant.now();
+            generate(executor);
+            executor.shutdown();
+            executor.awaitTermination(2, TimeUnit.MINUTES);
+
+            Path report = writeReport(startedAt, Instant.now());
+            System.out.println("리포트: " + report.toAbsolutePath());
+        } finally {
+            factory.destroy();
+        }
+
+        assertTrue(completedFlows.get() > 0, "완료된 흐름이 없음");
+    }
+
+    // 포아송 도착: 간격 = -ln(U) / rate, 예정 시각 기준으로 시작해서 생성기 자체 지연이 누적되지 않도록 함
+    private void generate(ExecutorService executor) {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long next = System.nanoTime();
+        long sequence = 0;
+
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            if (inFlight.get() >= maxInFlight) {
+                // 서버가 완전히 밀린 상태 -> 부하 생성기 메모리 보호
+                droppedFlows.incrementAndGet();
+            } else {
+                long id = sequence++;
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        if (flow(id)) completedFlows.incrementAndGet();
+                        else failedFlows.incrementAndGet();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            double interval = -Math.log(1 - ThreadLocalRandom.current().nextDouble()) / rate;
+            next += (long) (interval * 1e9);
+        }
+    }
+
+    private boolean flow(long id) {
+        String phone = "lt-" + runId + "-" + id;
+        String email = phone + "@loadtest.example.com";
+        String password = "password-" + id;
+
+        try {
+            if (post("send-code", "/api/auth/send-code", Map.of("phone", phone), null, null).statusCode() != 200) {
+                return false;
+            }
+            String code = redis.opsForValue().get(RedisKeys.smsCode(phone));
+            if (code == null) return false;
+
+            if (post("verify-code", "/api/auth/verify-code", Map.of("phone", phone, "code", code), null, null)
+                    .statusCode() != 200) {
+                return false;
+            }
+
+            Map<String, String> signup = Map.of("username", "lt" + id, "email", email, "password", password, "phone", phone);
+            if (post("signup", "/api/auth/signup", signup, null, null).statusCode() != 200) {
+                return false;
+            }
+
+            HttpResponse<String> login = post("login", "/api/auth/login",
+                    Map.of("email", email, "password", password), null, null);
+            if (login.statusCode() != 200) return false;
+            String accessToken = jsonValue(login.body(), "accessToken");
+            String refreshCookie = login.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith("refreshToken="))
+                    .map(cookie -> cookie.substring(0, cookie.indexOf(';') > 0 ? cookie.indexOf(';') : cookie.length()))
+                    .findFirst().orElse(null);
+
+            if (send("me", HttpRequest.newBuilder(uri("/api/private/me"))
+                    .header("Authorization", "Bearer " + accessToken).GET()).statusCode() != 200) {
+                return false;
+            }
+
+            if (post("refresh", "/api/auth/refresh", Map.of(), null, refreshCookie).statusCode() != 200) {
+                return false;
+            }
+
+            return post("logout", "/api/auth/logout", Map.of(), accessToken, null).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpResponse<String> post(String name, String path, Map<String, String> body,
+                                      String accessToken, String cookie) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)));
+        if (accessToken != null) builder.header("Authorization", "Bearer " + accessToken);
+        if (cookie != null) builder.header("Cookie", cookie);
+        return send(name, builder);
+    }
+
+    private HttpResponse<String> send(String name, HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpRequest request = builder.timeout(Duration.ofSeconds(30)).build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(name, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(name, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private Path writeReport(Instant startedAt, Instant finishedAt) throws IOException {
+        Map<String, LatencyRecorder.Stats> stats = recorder.snapshot();
+        String endpoints = stats.entrySet().stream()
+                .map(entry -> "\"" + entry.getKey() + "\":" + entry.getValue().toJson())
+                .collect(Collectors.joining(",\n    ", "{\n    ", "\n  }"));
+
+        String json = String.format(Locale.ROOT, """
+                {
+                  "run_id": "%s",
+                  "base_url": "%s",
+                  "started_at": "%s",
+                  "finished_at": "%s",
+                  "arrival_rate_per_sec": %.2f,
+                  "duration_sec": %d,
+                  "flows": {"completed": %d, "failed": %d, "dropped": %d},
+                  "endpoints": %s
+                }
+                """, runId, baseUrl, startedAt, finishedAt, rate, durationSeconds,
+                completedFlows.get(), failedFlows.get(), droppedFlows.get(), endpoints);
+
+        stats.forEach((endpoint, s) -> System.out.printf(Locale.ROOT,
+                "%-12s n=%-7d err=%-5d p50=%8.2fms p99=%8.2fms p999=%8.2fms max=%8.2fms%n",
+                endpoint, s.count(), s.errors(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.maxMs()));
+
+        Files.createDirectories(reportDir);
+        Path report = reportDir.resolve("auth-flow-" + startedAt.toEpochMilli() + ".json");
+        Files.writeString(report, json);
+        return report;
+    }
+
+    private static String toJson(Map<String, String> body) {
+        return body.entrySet().stream()
+                .map(entry -> "\"" + entry.getKey() + "\":\"" + entry.getValue() + "\"")
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    // 응답 JSON에서 문자열 필드 하나만 꺼냄 (부하 생성기 쪽 파싱 비용 최소화)
+    private static String jsonValue(String json, String field) {
+        String marker = "\"" + field + "\":\"";
+        int start = json.indexOf(marker);
+        if (start < 0) return null;
+        start += marker.length();
+        return json.substring(start, json.indexOf('"', start));
+    }
+}
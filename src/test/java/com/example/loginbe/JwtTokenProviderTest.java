@@ -1,6 +1,8 @@
 package com.example.loginbe;
 
 import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.ParsedToken;
+import com.example.loginbe.security.util.SubjectType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,4 +38,33 @@ class JwtTokenProviderTest {
         boolean isValid = jwtTokenProvider.validateToken(token);
         assertTrue(isValid);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰 한 번 파싱으로 클레임 추출 테스트")
+    void parseTest() {
+        String token = jwtTokenProvider.generateAccessToken("test@example.com", "ROLE_USER");
+
+        ParsedToken parsed = jwtTokenProvider.parse(token);
+
+        assertTrue(parsed.isValid());
+        assertEquals("test@example.com", parsed.getSubject());
+        assertEquals("ROLE_USER", parsed.getRole());
+        assertTrue(parsed.getRemainingMillis() > 0);
+
+        // 서명이 변조된 토큰은 INVALID
+        ParsedToken tampered = jwtTokenProvider.parse(token.substring(0, token.length() - 2) + "xx");
+        assertEquals(ParsedToken.Status.INVALID, tampered.getStatus());
+        assertEquals(ParsedToken.Status.INVALID, jwtTokenProvider.parse(null).getStatus());
+    }
+
+    @Test
+    @DisplayName("subject 종류 클레임 테스트")
+    void subjectTypeTest() {
+        String socialToken = jwtTokenProvider.generateAccessToken("12345", SubjectType.SOCIAL_ID, "ROLE_USER");
+        String legacyToken = jwtTokenProvider.generateAccessToken("test@example.com", "ROLE_USER");
+
+        assertEquals(SubjectType.SOCIAL_ID, jwtTokenProvider.parse(socialToken).getSubjectType());
+        // 클레임이 없는 토큰은 이메일 -> socialId 순서로 조회하도록 null
+        assertNull(jwtTokenProvider.parse(legacyToken).getSubjectType());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.loginbe;
+
+import com.example.loginbe.service.KakaoApiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KakaoApiClientTest {
+
+    private KakaoStubServer stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new KakaoStubServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    private KakaoApiClient client(long readTimeoutMillis, int maxConcurrentCalls) {
+        return new KakaoApiClient(stub.baseUrl(), stub.baseUrl(), 500, readTimeoutMillis, maxConcurrentCalls, 50, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("토큰 교환 + 사용자 정보 조회")
+    void successTest() {
+        KakaoApiClient client = client(1000, 2);
+
+        Map<String, Object> token = client.exchangeToken("client", "http://localhost/callback", "code");
+        Map<String, Object> userInfo = client.getUserInfo((String) token.get("access_token"));
+
+        assertEquals("stub-access-token", token.get("access_token"));
+        assertEquals(12345, ((Number) userInfo.get("id")).intValue());
+    }
+
+    @Test
+    @DisplayName("응답이 느리면 read timeout 후 502")
+    void readTimeoutTest() {
+        KakaoApiClient client = client(200, 2);
+        stub.delayMillis = 1000;
+
+        long start = System.currentTimeMillis();
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> client.getUserInfo("token"));
+
+        assertEquals(HttpStatus.BAD_GATEWAY, e.getStatusCode());
+        assertTrue(System.currentTimeMillis() - start < 1000, "타임아웃 전에 응답을 기다림");
+        assertEquals(2, client.availablePermits());
+    }
+
+    @Test
+    @DisplayName("카카오 오류 응답은 502")
+    void errorResponseTest() {
+        KakaoApiClient client = client(1000, 2);
+        stub.status = 500;
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> client.getUserInfo("token"));
+
+        assertEquals(HttpStatus.BAD_GATEWAY, e.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 기다리지 않고 503")
+    void bulkheadTest() throws Exception {
+        KakaoApiClient client = client(2000, 1);
+        stub.delayMillis = 500;
+
+        CompletableFuture<Map<String, Object>> slow = CompletableFuture.supplyAsync(() -> client.getUserInfo("token"));
+        Thread.sleep(100);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> client.getUserInfo("token"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+        assertNotNull(slow.get());
+    }
+}
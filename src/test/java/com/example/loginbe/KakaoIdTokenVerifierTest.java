@@ -0,0 +1,106 @@
+package com.example.loginbe;
+
+import com.example.loginbe.service.KakaoApiClient;
+import com.example.loginbe.service.KakaoIdTokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 가짜 JWKS 엔드포인트로 id_token 검증을 오프라인 테스트
+class KakaoIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client";
+
+    private KakaoStubServer stub;
+    private final Map<String, KeyPair> keyPairs = new LinkedHashMap<>();
+    private KakaoIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new KakaoStubServer();
+        stub.route("/.well-known/jwks.json", this::jwks);
+        keyPairs.put("key-1", newKeyPair());
+
+        KakaoApiClient client = new KakaoApiClient(stub.baseUrl(), stub.baseUrl(), 500, 1000, 5, 50, new SimpleMeterRegistry());
+        verifier = new KakaoIdTokenVerifier(client, CLIENT_ID, "https://kauth.kakao.com", 0, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("JWKS 공개키로 id_token 검증 후 sub/email 추출")
+    void verifyTest() {
+        Claims claims = verifier.verify(idToken("key-1", CLIENT_ID));
+
+        assertEquals("12345", claims.getSubject());
+        assertEquals("stub@kakao.com", claims.get("email", String.class));
+    }
+
+    @Test
+    @DisplayName("aud가 다르면 거부")
+    void wrongAudienceTest() {
+        assertThrows(ResponseStatusException.class, () -> verifier.verify(idToken("key-1", "other-client")));
+    }
+
+    @Test
+    @DisplayName("키가 교체되면 모르는 kid를 보고 JWKS를 다시 불러옴")
+    void keyRotationTest() throws Exception {
+        verifier.verify(idToken("key-1", CLIENT_ID));
+
+        keyPairs.put("key-2", newKeyPair());
+
+        assertEquals("12345", verifier.verify(idToken("key-2", CLIENT_ID)).getSubject());
+    }
+
+    private String idToken(String kid, String audience) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setIssuer("https://kauth.kakao.com")
+                .setAudience(audience)
+                .setSubject("12345")
+                .claim("email", "stub@kakao.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPairs.get(kid).getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private String jwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String keys = keyPairs.entrySet().stream()
+                .map(entry -> {
+                    RSAPublicKey publicKey = (RSAPublicKey) entry.getValue().getPublic();
+                    return "{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + entry.getKey() + "\""
+                            + ",\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                            + ",\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}";
+                })
+                .collect(Collectors.joining(","));
+        return "{\"keys\":[" + keys + "]}";
+    }
+
+    private static KeyPair newKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.loginbe;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+// 카카오 API를 흉내내는 로컬 스텁 서버 (지연/실패 응답 테스트용)
+class KakaoStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    volatile long delayMillis;
+    volatile int status = 200;
+    volatile String tokenResponse = "{\"access_token\":\"stub-access-token\"}";
+    volatile String userInfoResponse = "{\"id\":12345,\"kakao_account\":{\"email\":\"stub@kakao.com\"}}";
+
+    KakaoStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/oauth/token", exchange -> respond(exchange, tokenResponse));
+        server.createContext("/v2/user/me", exchange -> respond(exchange, userInfoResponse));
+        server.start();
+    }
+
+    // 추가 엔드포인트 등록 (JWKS 등), 응답 본문은 호출 시점에 결정
+    void route(String path, Supplier<String> body) {
+        server.createContext(path, exchange -> respond(exchange, body.get()));
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
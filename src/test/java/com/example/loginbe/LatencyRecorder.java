@@ -0,0 +1,68 @@
+package com.example.loginbe;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 부하 테스트용 엔드포인트별 응답 시간 기록 (전체 샘플을 보관하고 끝에 정렬해서 백분위 계산)
+class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        Samples samples = endpoints.computeIfAbsent(endpoint, key -> new Samples());
+        samples.add(nanos);
+        if (!success) samples.errors.increment();
+    }
+
+    Map<String, Stats> snapshot() {
+        Map<String, Stats> stats = new TreeMap<>();
+        endpoints.forEach((endpoint, samples) -> stats.put(endpoint, samples.stats()));
+        return stats;
+    }
+
+    record Stats(long count, long errors, double meanMs, double p50Ms, double p90Ms,
+                 double p99Ms, double p999Ms, double maxMs) {
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"count\":%d,\"errors\":%d,\"mean_ms\":%.3f,\"p50_ms\":%.3f,\"p90_ms\":%.3f,"
+                            + "\"p99_ms\":%.3f,\"p999_ms\":%.3f,\"max_ms\":%.3f}",
+                    count, errors, meanMs, p50Ms, p90Ms, p99Ms, p999Ms, maxMs);
+        }
+    }
+
+    private static class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized Stats stats() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double sum = 0;
+            for (long value : sorted) sum += value;
+            return new Stats(size, errors.sum(),
+                    size == 0 ? 0 : sum / size / 1e6,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90),
+                    percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.loginbe;
+
+import com.example.loginbe.service.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// cost별 로그인(비밀번호 비교) 처리량 측정 (./gradlew benchmark)
+@Tag("benchmark")
+class PasswordHashingBenchmarkTest {
+
+    private static final int LOGINS = 200;
+    private static final int CLIENTS = 32;
+
+    @Test
+    @DisplayName("BCrypt cost별 로그인 처리량")
+    void loginThroughput() {
+        for (int strength = 8; strength <= 12; strength++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            PasswordHashingService hashingService = new PasswordHashingService(encoder, 0, LOGINS, 60_000, new SimpleMeterRegistry());
+            String encoded = encoder.encode("password");
+
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+            long start = System.nanoTime();
+            List<CompletableFuture<Boolean>> results = new ArrayList<>(LOGINS);
+            for (int i = 0; i < LOGINS; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> hashingService.matches("password", encoded), clients));
+            }
+            results.forEach(result -> assertTrue(result.join()));
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("strength=%d: %d건 %.1fms (%.1f logins/s), 거절 %d건%n",
+                    strength, LOGINS, seconds * 1000, LOGINS / seconds, hashingService.getRejectedCount());
+
+            clients.shutdown();
+            hashingService.shutdown();
+        }
+    }
+}
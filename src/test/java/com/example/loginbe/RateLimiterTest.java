@@ -0,0 +1,54 @@
+package com.example.loginbe;
+
+import com.example.loginbe.security.ratelimit.RateLimitExceededException;
+import com.example.loginbe.security.ratelimit.RateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "rate-limit.endpoints.test.ip.limit=3",
+        "rate-limit.endpoints.test.ip.window=1m",
+        "rate-limit.endpoints.test.email.limit=100",
+        "rate-limit.endpoints.test.email.window=1m"
+})
+class RateLimiterTest {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Test
+    @DisplayName("한도까지 허용하고 초과하면 429 + Retry-After")
+    void limitTest() {
+        String ip = "test-" + UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            String email = "user" + i + "@example.com";
+            assertDoesNotThrow(() -> rateLimiter.check("test", ip, "email", email));
+        }
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check("test", ip, "email", "other@example.com"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatusCode());
+        assertTrue(e.getRetryAfterMillis() > 0);
+        assertNotNull(e.getHeaders().getFirst("Retry-After"));
+
+        // 이미 차단된 IP는 로컬에서 바로 거절
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check("test", ip, "email", "another@example.com"));
+    }
+
+    @Test
+    @DisplayName("설정이 없는 엔드포인트는 제한하지 않음")
+    void noRuleTest() {
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> rateLimiter.check("unknown", "127.0.0.1", "email", "a@example.com"));
+        }
+    }
+}
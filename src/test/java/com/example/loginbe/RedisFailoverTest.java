@@ -0,0 +1,228 @@
+package com.example.loginbe;
+
+import com.example.loginbe.repository.RedisDao;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.sentinel.api.StatefulRedisSentinelConnection;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 로컬 redis-server 프로세스로 primary 1 + replica 1 + sentinel 3 구성 후 primary를 강제 종료
+// -> 쓰기/읽기를 계속 보내면서 실패가 이어진 구간(오류 구간)을 측정
+// 실행: ./gradlew failoverTest (redis-server가 PATH에 없으면 -Pfailover.redis-server=<경로>, 없으면 건너뜀)
+@Tag("failover")
+@SpringBootTest(properties = {
+        "redis.topology=sentinel",
+        "redis.replica-reads=true",
+        "spring.data.redis.timeout=500",
+        "jwt.blacklist.mode=strict"
+})
+class RedisFailoverTest {
+
+    private static final String MASTER = "failover-test";
+    private static final int PRIMARY_PORT = 16379;
+    private static final int REPLICA_PORT = 16380;
+    private static final int[] SENTINEL_PORTS = {26380, 26381, 26382};
+    private static final String KEY_PREFIX = "failover-test:";
+
+    private static final List<Process> processes = new ArrayList<>();
+    private static Path workDir;
+    private static Process primary;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        String redisServer = System.getProperty("failover.redis-server", "redis-server");
+        assumeTrue(isAvailable(redisServer), "redis-server를 찾을 수 없어 건너뜀: " + redisServer);
+
+        workDir = Files.createTempDirectory("redis-failover");
+        primary = start("primary", redisServer, "--port", String.valueOf(PRIMARY_PORT), "--save", "", "--appendonly", "no");
+        start("replica", redisServer, "--port", String.valueOf(REPLICA_PORT), "--save", "", "--appendonly", "no",
+                "--replicaof", "127.0.0.1", String.valueOf(PRIMARY_PORT));
+        for (int port : SENTINEL_PORTS) {
+            // sentinel은 상태를 설정 파일에 다시 쓰므로 파일로 전달
+            Path conf = workDir.resolve("sentinel-" + port + ".conf");
+            Files.writeString(conf, String.join("\n",
+                    "port " + port,
+                    "sentinel monitor " + MASTER + " 127.0.0.1 " + PRIMARY_PORT + " 2",
+                    "sentinel down-after-milliseconds " + MASTER + " 1000",
+                    "sentinel failover-timeout " + MASTER + " 5000",
+                    ""));
+            start("sentinel-" + port, redisServer, conf.toString(), "--sentinel");
+        }
+
+        for (int port : List.of(PRIMARY_PORT, REPLICA_PORT, SENTINEL_PORTS[0], SENTINEL_PORTS[1], SENTINEL_PORTS[2])) {
+            assertTrue(await(() -> isListening(port), 10_000), "redis 프로세스 시작 실패: " + port + " (" + workDir + ")");
+        }
+        // failover 대상이 있어야 하므로 복제 연결 + sentinel의 replica 인식까지 대기
+        assertTrue(await(RedisFailoverTest::isReplicationReady, 30_000), "복제/sentinel 준비 실패 (" + workDir + ")");
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.sentinel.master", () -> MASTER);
+        registry.add("spring.data.redis.sentinel.nodes", () -> "127.0.0.1:" + SENTINEL_PORTS[0]
+                + ",127.0.0.1:" + SENTINEL_PORTS[1] + ",127.0.0.1:" + SENTINEL_PORTS[2]);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        processes.forEach(Process::destroyForcibly);
+    }
+
+    @Autowired
+    private RedisDao redisDao;
+
+    @Test
+    @DisplayName("primary 강제 종료 후 sentinel failover로 쓰기가 복구되고 오류 구간을 측정")
+    void failoverTest() throws Exception {
+        // 복제본 읽기: primary에 쓴 값이 복제되면 복제본 조회로도 읽힘
+        redisDao.setValues(KEY_PREFIX + "replica", "1", Duration.ofMinutes(1));
+        assertTrue(await(() -> "1".equals(redisDao.getReplicaValues(KEY_PREFIX + "replica")), 5_000));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong firstErrorAt = new AtomicLong();
+        AtomicLong lastErrorAt = new AtomicLong();
+
+        Thread client = Thread.ofVirtual().start(() -> {
+            long i = 0;
+            while (running.get()) {
+                String key = KEY_PREFIX + (i++ % 1000);
+                try {
+                    redisDao.setValues(key, String.valueOf(i), Duration.ofMinutes(1));
+                    redisDao.getValues(key);
+                    succeeded.incrementAndGet();
+                } catch (Exception e) {
+                    long now = System.currentTimeMillis();
+                    failed.incrementAndGet();
+                    firstErrorAt.compareAndSet(0, now);
+                    lastErrorAt.set(now);
+                }
+                sleep(10);
+            }
+        });
+
+        Thread.sleep(1_000);
+        long killedAt = System.currentTimeMillis();
+        primary.destroyForcibly().waitFor();
+
+        // 실패가 시작된 뒤 2초 동안 실패가 없으면 복구된 것으로 판단
+        boolean recovered = await(() -> lastErrorAt.get() > 0
+                && System.currentTimeMillis() - lastErrorAt.get() >= 2_000, 60_000);
+        running.set(false);
+        client.join();
+
+        long window = lastErrorAt.get() == 0 ? 0 : lastErrorAt.get() - killedAt;
+        System.out.printf("failover 오류 구간: %dms (종료 후 첫 실패까지 %dms), 실패 %d건, 성공 %d건%n",
+                window, firstErrorAt.get() == 0 ? 0 : firstErrorAt.get() - killedAt, failed.get(), succeeded.get());
+
+        assertTrue(recovered, "failover 후 60초 안에 복구되지 않음");
+        // 쓰기는 승격된 primary(이전 replica)로 전달됨
+        redisDao.setValues(KEY_PREFIX + "after", "ok", Duration.ofMinutes(1));
+        assertEquals("ok", redisDao.getValues(KEY_PREFIX + "after"));
+        assertTrue(replicationInfo(REPLICA_PORT).contains("role:master"), "replica가 primary로 승격되지 않음");
+    }
+
+    private static boolean isAvailable(String redisServer) {
+        try {
+            return new ProcessBuilder(redisServer, "--version").start().waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Process start(String name, String... command) throws IOException {
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve(name + ".log").toFile())
+                .start();
+        processes.add(process);
+        return process;
+    }
+
+    private static boolean isListening(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("127.0.0.1", port), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isReplicationReady() {
+        if (!replicationInfo(REPLICA_PORT).contains("master_link_status:up")) return false;
+
+        RedisClient client = RedisClient.create();
+        try {
+            for (int port : SENTINEL_PORTS) {
+                try (StatefulRedisSentinelConnection<String, String> connection =
+                             client.connectSentinel(RedisURI.create("127.0.0.1", port))) {
+                    if (connection.sync().replicas(MASTER).isEmpty()) return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    // INFO replication 결과 (role, master_link_status 등), 연결 실패 시 빈 문자열
+    private static String replicationInfo(int port) {
+        RedisClient client = RedisClient.create(RedisURI.create("127.0.0.1", port));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            return connection.sync().info("replication");
+        } catch (Exception e) {
+            return "";
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) return true;
+            sleep(100);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.loginbe;
+
+import com.example.loginbe.repository.RedisDao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 순차 호출 vs 파이프라인/배치/비동기 호출 처리량 비교 (./gradlew benchmark)
+@Tag("benchmark")
+@SpringBootTest
+class RedisPipelineBenchmarkTest {
+
+    private static final int COUNT = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private RedisDao redisDao;
+
+    private final List<String> keys = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        redisDao.deleteValues(keys);
+    }
+
+    @Test
+    @DisplayName("SET: 순차 vs 파이프라인 vs 비동기")
+    void setThroughput() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < COUNT; i++) {
+            String key = "bench:" + i;
+            keys.add(key);
+            entries.put(key, "value-" + i);
+        }
+
+        long start = System.nanoTime();
+        entries.forEach((key, value) -> redisDao.setValues(key, value, TTL));
+        print("순차 SET", start);
+
+        start = System.nanoTime();
+        redisDao.setValuesPipelined(entries, TTL);
+        print("파이프라인 SET", start);
+
+        start = System.nanoTime();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(COUNT);
+        entries.forEach((key, value) -> futures.add(redisDao.setValuesAsync(key, value, TTL)));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        print("비동기 SET", start);
+    }
+
+    @Test
+    @DisplayName("GET: 순차 vs MGET")
+    void getThroughput() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < COUNT; i++) {
+            String key = "bench:" + i;
+            keys.add(key);
+            entries.put(key, "value-" + i);
+        }
+        redisDao.setValuesPipelined(entries, TTL);
+
+        long start = System.nanoTime();
+        for (String key : keys) {
+            redisDao.getValues(key);
+        }
+        print("순차 GET", start);
+
+        start = System.nanoTime();
+        List<String> values = redisDao.multiGet(keys);
+        print("MGET", start);
+
+        assertEquals(COUNT, values.size());
+    }
+
+    private void print(String label, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("%s: %d건 %.1fms (%.0f ops/s)%n", label, COUNT, seconds * 1000, COUNT / seconds);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.loginbe;
+
+import com.example.loginbe.dto.LoginResponseDto;
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.ParsedToken;
+import com.example.loginbe.security.util.RefreshSession;
+import com.example.loginbe.security.util.RefreshSessionStore;
+import com.example.loginbe.security.util.SubjectType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "jwt.session.max-per-user=2")
+class RefreshSessionStoreTest {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RefreshSessionStore sessionStore;
+
+    @Autowired
+    private RedisDao redisDao;
+
+    @Test
+    @DisplayName("기기별 세션 유지, 최대 개수 초과 시 가장 오래된 세션 제거, 전체 로그아웃")
+    void sessionTest() throws InterruptedException {
+        String email = "session-" + UUID.randomUUID() + "@example.com";
+
+        LoginResponseDto phone = login(email, "phone");
+        LoginResponseDto laptop = login(email, "laptop");
+        LoginResponseDto tablet = login(email, "tablet");
+
+        // 최대 2개: 가장 먼저 로그인한 phone 세션이 제거됨
+        List<RefreshSession> sessions = sessionStore.list(email);
+        assertEquals(List.of("tablet", "laptop"), sessions.stream().map(RefreshSession::device).toList());
+        assertEquals(JwtTokenProvider.RefreshCheck.MISMATCH, check(phone));
+        assertEquals(JwtTokenProvider.RefreshCheck.VALID, check(laptop));
+
+        // 기기 하나만 로그아웃
+        String laptopSid = jwtTokenProvider.parse(laptop.getRefreshToken()).getSessionId();
+        assertTrue(sessionStore.revoke(email, laptopSid));
+        assertEquals(JwtTokenProvider.RefreshCheck.MISMATCH, check(laptop));
+        assertEquals(JwtTokenProvider.RefreshCheck.VALID, check(tablet));
+
+        // 전체 로그아웃
+        jwtTokenProvider.deleteRefreshToken(email);
+        assertTrue(sessionStore.list(email).isEmpty());
+        assertEquals(JwtTokenProvider.RefreshCheck.MISMATCH, check(tablet));
+    }
+
+    @Test
+    @DisplayName("이전 텍스트 형식 세션과 바이너리 형식 세션을 함께 조회")
+    void legacyFormatTest() throws InterruptedException {
+        String email = "session-" + UUID.randomUUID() + "@example.com";
+        long now = System.currentTimeMillis();
+        redisDao.putHashValue(RedisKeys.sessions(email), "legacy-sid",
+                "legacy-jti|" + (now - 1000) + "|" + (now + 60_000) + "|old-phone");
+
+        RefreshSession legacy = sessionStore.find(email, "legacy-sid");
+        assertEquals("legacy-jti", legacy.tokenId());
+        assertEquals(now + 60_000, legacy.expiresAt());
+        assertEquals("old-phone", legacy.device());
+
+        // 등록 스크립트가 텍스트 형식의 생성/만료 시각도 읽어 유지
+        LoginResponseDto laptop = login(email, "laptop");
+        assertEquals(List.of("laptop", "old-phone"), sessionStore.list(email).stream().map(RefreshSession::device).toList());
+        assertEquals(JwtTokenProvider.RefreshCheck.VALID, check(laptop));
+
+        jwtTokenProvider.deleteRefreshToken(email);
+    }
+
+    private LoginResponseDto login(String email, String device) throws InterruptedException {
+        LoginResponseDto tokens = jwtTokenProvider.issueTokens(email, SubjectType.EMAIL, "ROLE_USER", device);
+        // 세션 생성 시각(ms)이 겹치지 않도록
+        Thread.sleep(5);
+        return tokens;
+    }
+
+    private JwtTokenProvider.RefreshCheck check(LoginResponseDto tokens) {
+        ParsedToken parsed = jwtTokenProvider.parse(tokens.getRefreshToken());
+        return jwtTokenProvider.checkRefreshToken(tokens.getRefreshToken(), parsed);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.loginbe;
+
+import com.example.loginbe.metrics.ServerTiming;
+import com.example.loginbe.metrics.ServerTimingFilter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    @Test
+    @DisplayName("요청 중 기록한 단계가 합산되어 Server-Timing 헤더로 나감")
+    void headerTest() throws Exception {
+        Timer timer = new SimpleMeterRegistry().timer("test");
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                ServerTiming.add(ServerTiming.REDIS, TimeUnit.MILLISECONDS.toNanos(1));
+                ServerTiming.add(ServerTiming.REDIS, TimeUnit.MILLISECONDS.toNanos(2));
+                ServerTiming.record(timer, ServerTiming.JWT, System.nanoTime());
+                res.getWriter().write("ok");
+                res.flushBuffer();
+            }
+        };
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ServerTimingFilter().doFilter(new MockHttpServletRequest("GET", "/"), response, new MockFilterChain(servlet));
+
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.startsWith("redis;dur=3.00, jwt;dur="), header);
+        assertTrue(header.contains("total;dur="), header);
+        assertEquals(1, timer.count());
+
+        // 필터 밖에서는 기록하지 않음
+        ServerTiming.add(ServerTiming.REDIS, 1);
+    }
+}
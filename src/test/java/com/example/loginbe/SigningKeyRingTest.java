@@ -0,0 +1,145 @@
+package com.example.loginbe;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.repository.RedisKeys;
+import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.SigningKeyRing;
+import com.example.loginbe.security.util.SubjectType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "jwt.signing.algorithm=ES256")
+class SigningKeyRingTest {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private SigningKeyRing keyRing;
+
+    @Autowired
+    private RedisDao redisDao;
+
+    @Test
+    @DisplayName("ES256 토큰을 JWKS 공개키만으로 검증, 키 교체 후에도 이전 토큰 검증")
+    void rotationTest() {
+        String before = jwtTokenProvider.generateAccessToken("jwks@example.com", SubjectType.EMAIL, "ROLE_USER");
+        String beforeKid = verifyWithJwks(before).getHeader().getKeyId();
+
+        keyRing.rotate();
+
+        String after = jwtTokenProvider.generateAccessToken("jwks@example.com", SubjectType.EMAIL, "ROLE_USER");
+        String afterKid = verifyWithJwks(after).getHeader().getKeyId();
+
+        assertNotEquals(beforeKid, afterKid);
+        // 교체 전 키로 서명한 토큰도 계속 유효
+        assertTrue(jwtTokenProvider.validateToken(before));
+        assertEquals("jwks@example.com", verifyWithJwks(before).getBody().getSubject());
+    }
+
+    @Test
+    @DisplayName("jwt.secret HMAC 없이 Redis에 직접 넣은 공개키로 서명한 토큰은 거절")
+    void injectedKeyTest() {
+        KeyPair attacker = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        ECPublicKey publicKey = (ECPublicKey) attacker.getPublic();
+        String kid = "injected-" + System.nanoTime();
+        String x = encode(publicKey.getW().getAffineX());
+        String y = encode(publicKey.getW().getAffineY());
+        long retireAt = System.currentTimeMillis() + 60_000;
+
+        try {
+            // HMAC이 없는 이전 형식, 임의의 HMAC을 붙인 형식 모두 거절
+            redisDao.putHashValue(RedisKeys.JWKS, kid, x + "|" + y + "|" + retireAt);
+            redisDao.putHashValue(RedisKeys.JWKS, kid + "-mac", x + "|" + y + "|" + retireAt + "|forged");
+            keyRing.refresh();
+
+            for (String injectedKid : List.of(kid, kid + "-mac")) {
+                String forged = Jwts.builder()
+                        .setHeaderParam(JwsHeader.KEY_ID, injectedKid)
+                        .setSubject("attacker@example.com")
+                        .claim("role", "ROLE_ADMIN")
+                        .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                        .signWith(attacker.getPrivate(), SignatureAlgorithm.ES256)
+                        .compact();
+                assertFalse(jwtTokenProvider.validateToken(forged));
+            }
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> keys = (List<Map<String, Object>>) keyRing.getJwks().get("keys");
+            assertTrue(keys.stream().noneMatch(jwk -> ((String) jwk.get("kid")).startsWith(kid)));
+        } finally {
+            redisDao.deleteHashField(RedisKeys.JWKS, kid);
+            redisDao.deleteHashField(RedisKeys.JWKS, kid + "-mac");
+        }
+    }
+
+    // JWK 좌표 형식 (32바이트 고정 길이, base64url)
+    private static String encode(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private Jws<Claims> verifyWithJwks(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(new JwksResolver(keyRing.getJwks()))
+                .build()
+                .parseClaimsJws(token);
+    }
+
+    // 다른 서비스처럼 JWKS 응답만 가지고 공개키를 만듦
+    private static class JwksResolver extends SigningKeyResolverAdapter {
+        private final Map<String, Object> jwks;
+
+        JwksResolver(Map<String, Object> jwks) {
+            this.jwks = jwks;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            for (Map<String, Object> jwk : (List<Map<String, Object>>) jwks.get("keys")) {
+                if (!jwk.get("kid").equals(header.getKeyId())) continue;
+                try {
+                    Base64.Decoder decoder = Base64.getUrlDecoder();
+                    AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                    parameters.init(new ECGenParameterSpec("secp256r1"));
+                    ECPoint point = new ECPoint(new BigInteger(1, decoder.decode((String) jwk.get("x"))),
+                            new BigInteger(1, decoder.decode((String) jwk.get("y"))));
+                    return KeyFactory.getInstance("EC").generatePublic(
+                            new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            throw new IllegalStateException("JWKS에 없는 kid: " + header.getKeyId());
+        }
+    }
+}
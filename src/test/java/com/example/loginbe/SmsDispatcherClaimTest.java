@@ -0,0 +1,72 @@
+package com.example.loginbe;
+
+import com.example.loginbe.sms.FakeSmsSender;
+import com.example.loginbe.sms.SmsDeliveryStatus;
+import com.example.loginbe.sms.SmsDispatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 워커 1개가 발송(2초) 중인 동안 두 번째 메시지를 로컬 큐에 claim-idle 이상 붙잡아 둠
+// -> claim이 자기 노드의 pending 메시지를 다시 가져가지 않는지 확인
+@SpringBootTest(properties = {
+        "sms.workers=1",
+        "sms.batch-size=1",
+        "sms.linger=0ms",
+        "sms.fake.latency-ms=2000",
+        "sms.claim-idle=300ms",
+        "sms.claim-interval-ms=600000"
+})
+class SmsDispatcherClaimTest {
+
+    @DynamicPropertySource
+    static void smsStream(DynamicPropertyRegistry registry) {
+        registry.add("sms.stream", () -> "{sms-test}:" + UUID.randomUUID());
+    }
+
+    @Autowired
+    private SmsDispatcher smsDispatcher;
+
+    @Autowired
+    private FakeSmsSender fakeSmsSender;
+
+    @Test
+    @DisplayName("로컬 큐에서 claim-idle을 넘긴 메시지도 claim으로 중복 발송되지 않음")
+    void claimSkipsLocalPendingTest() throws InterruptedException {
+        List<String> ids = List.of(
+                smsDispatcher.enqueue("01000000001", "first"),
+                smsDispatcher.enqueue("01000000002", "second"));
+
+        // 두 번째 메시지는 첫 발송이 끝날 때까지 큐에서 대기 (claim-idle 300ms 초과)
+        Thread.sleep(1_000);
+        smsDispatcher.claimIdle();
+        smsDispatcher.claimIdle();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!allSent(ids) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(allSent(ids));
+
+        // 중복으로 큐에 들어갔다면 이후 발송이 더 이어짐
+        Thread.sleep(2_500);
+        assertEquals(2, fakeSmsSender.getSentCount());
+        assertEquals(0, smsDispatcher.getQueueSize());
+    }
+
+    private boolean allSent(List<String> ids) {
+        for (String id : ids) {
+            SmsDeliveryStatus status = smsDispatcher.getStatus(id);
+            if (status == null || status.status() != SmsDeliveryStatus.Status.SENT) return false;
+        }
+        return true;
+    }
+}
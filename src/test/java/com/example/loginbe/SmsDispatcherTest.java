@@ -0,0 +1,75 @@
+package com.example.loginbe;
+
+import com.example.loginbe.sms.FakeSmsSender;
+import com.example.loginbe.sms.SmsDeliveryStatus;
+import com.example.loginbe.sms.SmsDispatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 가짜 발송기(호출당 500ms)로 대기열 동작 확인
+@SpringBootTest(properties = {
+        "sms.workers=2",
+        "sms.batch-size=50",
+        "sms.linger=50ms",
+        "sms.max-backlog=100",
+        "sms.fake.latency-ms=500"
+})
+class SmsDispatcherTest {
+
+    // 다른 테스트 컨텍스트의 워커가 가져가지 않도록 테스트마다 별도 Stream 사용
+    @DynamicPropertySource
+    static void smsStream(DynamicPropertyRegistry registry) {
+        registry.add("sms.stream", () -> "{sms-test}:" + UUID.randomUUID());
+    }
+
+    @Autowired
+    private SmsDispatcher smsDispatcher;
+
+    @Autowired
+    private FakeSmsSender fakeSmsSender;
+
+    @Test
+    @DisplayName("등록 즉시 반환, 대기 건수 초과 시 503, 워커가 배치로 묶어 발송")
+    void dispatchTest() throws InterruptedException {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(smsDispatcher.enqueue("0100000" + String.format("%04d", i), "test " + i));
+        }
+
+        // 첫 배치 발송(500ms)이 끝나기 전이므로 대기 건수 100 -> 거절
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> smsDispatcher.enqueue("01099999999", "overflow"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!allSent(ids) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(allSent(ids));
+        // 건별 호출이면 100번, 배치로 묶으면 최대 50건씩
+        assertTrue(fakeSmsSender.getCallCount() <= 10, "calls=" + fakeSmsSender.getCallCount());
+
+        // 발송이 끝나 대기 건수가 줄었으므로 다시 등록 가능
+        assertNotNull(smsDispatcher.enqueue("01099999999", "after"));
+    }
+
+    private boolean allSent(List<String> ids) {
+        for (String id : ids) {
+            SmsDeliveryStatus status = smsDispatcher.getStatus(id);
+            if (status == null || status.status() != SmsDeliveryStatus.Status.SENT) return false;
+        }
+        return true;
+    }
+}
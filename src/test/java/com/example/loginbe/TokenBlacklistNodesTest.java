@@ -0,0 +1,96 @@
+package com.example.loginbe;
+
+import com.example.loginbe.repository.RedisDao;
+import com.example.loginbe.security.util.TokenBlacklist;
+import com.example.loginbe.security.util.TokenDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 하나의 로컬 Redis에 여러 노드(각자 연결/구독/near-cache 보유)를 붙여서 동기화 확인
+class TokenBlacklistNodesTest {
+
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        for (LettuceConnectionFactory factory : factories) {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드에서 등록한 블랙리스트가 다른 노드 near-cache에 전파")
+    void propagateTest() throws Exception {
+        TokenBlacklist nodeA = startNode();
+        TokenBlacklist nodeB = startNode();
+        String tokenId = TokenDigest.newTokenId();
+
+        assertFalse(nodeB.contains(tokenId));
+        // 구독은 비동기로 등록되므로 잠시 대기
+        Thread.sleep(500);
+
+        nodeA.add(tokenId, 60_000);
+
+        assertTrue(nodeA.contains(tokenId));
+        assertTrue(waitUntilContains(nodeB, tokenId), "Pub/Sub 이벤트가 전파되지 않음");
+    }
+
+    @Test
+    @DisplayName("나중에 뜬 노드는 시작 시 Redis에서 블랙리스트를 불러옴")
+    void startupLoadTest() throws Exception {
+        TokenBlacklist nodeA = startNode();
+        String tokenId = TokenDigest.newTokenId();
+        nodeA.add(tokenId, 60_000);
+
+        TokenBlacklist nodeC = startNode();
+
+        assertTrue(nodeC.contains(tokenId));
+    }
+
+    private boolean waitUntilContains(TokenBlacklist node, String tokenId) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (node.contains(tokenId)) return true;
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private TokenBlacklist startNode() {
+        LettuceConnectionFactory factory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", 6379));
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(factory);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.afterPropertiesSet();
+        containers.add(container);
+
+        // 애플리케이션 시작 순서와 같게: 빈 초기화(@PostConstruct) -> 컨테이너 시작(구독) -> ApplicationReadyEvent
+        RedisDao redisDao = new RedisDao(redisTemplate, new ReactiveStringRedisTemplate(factory), new SimpleMeterRegistry());
+        TokenBlacklist blacklist = new TokenBlacklist(redisDao, container, "near-cache", true);
+        blacklist.init();
+        container.start();
+        blacklist.loadOnStartup();
+        return blacklist;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.loginbe;
+
+import com.example.loginbe.dto.TokenIntrospectionDto;
+import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.SubjectType;
+import com.example.loginbe.service.TokenIntrospectionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "jwt.blacklist.mode=strict",
+        "introspection.max-tokens=50"
+})
+class TokenIntrospectionServiceTest {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TokenIntrospectionService introspectionService;
+
+    @Test
+    @DisplayName("토큰별 상태를 요청 순서대로 반환 (블랙리스트는 한 번에 확인)")
+    void introspectTest() {
+        String valid = jwtTokenProvider.generateAccessToken("introspect@example.com", SubjectType.EMAIL, "ROLE_USER");
+        String revoked = jwtTokenProvider.generateAccessToken("revoked@example.com", SubjectType.EMAIL, "ROLE_USER");
+        jwtTokenProvider.addToBlacklist(revoked);
+
+        List<TokenIntrospectionDto> results = introspectionService.introspect(List.of(valid, "not-a-token", revoked));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isActive());
+        assertEquals(TokenIntrospectionDto.Status.VALID, results.get(0).getStatus());
+        assertEquals("introspect@example.com", results.get(0).getSubject());
+        assertEquals("ROLE_USER", results.get(0).getRole());
+        assertNotNull(results.get(0).getExpiresAt());
+
+        assertEquals(TokenIntrospectionDto.Status.INVALID, results.get(1).getStatus());
+        assertNull(results.get(1).getSubject());
+
+        assertFalse(results.get(2).isActive());
+        assertEquals(TokenIntrospectionDto.Status.REVOKED, results.get(2).getStatus());
+        assertEquals("revoked@example.com", results.get(2).getSubject());
+    }
+
+    @Test
+    @DisplayName("병렬 검증 경로와 최대 개수 제한")
+    void batchLimitTest() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tokens.add(jwtTokenProvider.generateAccessToken("batch" + i + "@example.com", SubjectType.EMAIL, "ROLE_USER"));
+        }
+
+        List<TokenIntrospectionDto> results = introspectionService.introspect(tokens);
+        for (int i = 0; i < 50; i++) {
+            assertEquals("batch" + i + "@example.com", results.get(i).getSubject());
+            assertTrue(results.get(i).isActive());
+        }
+
+        List<String> tooMany = new ArrayList<>(Collections.nCopies(51, tokens.get(0)));
+        assertThrows(ResponseStatusException.class, () -> introspectionService.introspect(tooMany));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.loginbe;
+
+import com.example.loginbe.entity.User;
+import com.example.loginbe.repository.UserRepository;
+import com.example.loginbe.service.UserExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserExportServiceTest {
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> saved = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(saved);
+    }
+
+    @Test
+    @DisplayName("after 이후 행만 NDJSON으로 내보내고 gzip 해제 결과가 같음")
+    void exportTest() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            saved.add(userRepository.save(User.builder()
+                    .username("export \"user\"" + i)
+                    .email("export-" + UUID.randomUUID() + "@example.com")
+                    .phone("export-" + UUID.randomUUID())
+                    .role("ROLE_USER")
+                    .build()));
+        }
+        long after = saved.get(0).getId();
+
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        userExportService.export(UserExportService.Format.NDJSON, after, false, plain);
+        String ndjson = plain.toString(StandardCharsets.UTF_8);
+
+        assertFalse(ndjson.contains("\"id\":" + after + ","));
+        assertTrue(ndjson.contains("\"id\":" + saved.get(2).getId() + ","));
+        assertTrue(ndjson.contains("\"username\":\"export \\\"user\\\"1\""));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        userExportService.export(UserExportService.Format.NDJSON, after, true, compressed);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertEquals(ndjson, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.loginbe;
+
+import com.example.loginbe.service.UserImportJob;
+import com.example.loginbe.service.UserImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 대량 import 처리량(rows/s) 측정 (./gradlew benchmark)
+// 건수 조정: -Dbench.import.rows=50000
+@Tag("benchmark")
+@SpringBootTest
+class UserImportBenchmarkTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String prefix = "bench-import-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    private Path file;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jdbcTemplate.update("delete from `user` where phone like ?", prefix + "%");
+        if (file != null) Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("이미 해싱된 비밀번호(이전 서비스 데이터) 기준 DB 경로 처리량")
+    void importThroughput() throws Exception {
+        int rows = Integer.getInteger("bench.import.rows", 50_000);
+        // 모든 행에 같은 해시 사용 -> BCrypt 비용 없이 중복 확인 + 배치 insert만 측정
+        String hash = passwordEncoder.encode("password");
+
+        file = Files.createTempFile("user-import-bench-", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("username,email,phone,password\n");
+            for (int i = 0; i < rows; i++) {
+                writer.write("user" + i + "," + prefix + i + "@example.com," + prefix + i + "," + hash + "\n");
+            }
+        }
+
+        UserImportJob job = new UserImportJob("bench");
+        userImportService.importFile(file, job);
+
+        System.out.printf("import %d건: %.0f rows/s%n", job.getInserted(), job.getRowsPerSecond());
+        assertEquals(rows, job.getInserted());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.loginbe;
+
+import com.example.loginbe.repository.UserJdbcDao;
+import com.example.loginbe.repository.UserRepository;
+import com.example.loginbe.service.PasswordHashingService;
+import com.example.loginbe.service.UserImportJob;
+import com.example.loginbe.service.UserImportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserJdbcDao userJdbcDao;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final String prefix = "import-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    private Path file;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (String name : new String[]{"a", "b", "c", "r0", "r1", "r2", "r3", "r4", "r5", "r6", "r7"}) {
+            userRepository.findByPhone(prefix + name).ifPresent(userRepository::delete);
+        }
+        if (file != null) Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("정상 행은 저장하고 형식 오류/파일 내 중복/기존 회원은 행 번호와 함께 실패 처리")
+    void importTest() throws Exception {
+        userImportService.importFile(write(
+                "username,email,phone,password",
+                "a," + prefix + "a@example.com," + prefix + "a,password",
+                "b," + prefix + "b@example.com," + prefix + "b,password",
+                "dup," + prefix + "a@example.com," + prefix + "x,password",
+                "broken,not-an-email," + prefix + "y,password"
+        ), new UserImportJob("test-1"));
+
+        // 두 번째 import: 이미 가입된 a는 실패, c만 저장
+        UserImportJob job = new UserImportJob("test-2");
+        userImportService.importFile(write(
+                "username,email,phone,password",
+                "a," + prefix + "a@example.com," + prefix + "a,password",
+                "c," + prefix + "c@example.com," + prefix + "c,password"
+        ), job);
+
+        assertEquals(UserImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getProcessed());
+        assertEquals(1, job.getInserted());
+        assertEquals(2, job.getErrors().get(0).line());
+        assertTrue(userRepository.findByPhone(prefix + "b").isPresent());
+        assertTrue(userRepository.findByPhone(prefix + "c").isPresent());
+        assertFalse(userRepository.findByPhone(prefix + "x").isPresent());
+        assertFalse(userRepository.findByPhone(prefix + "y").isPresent());
+    }
+
+    @Test
+    @DisplayName("해싱 대기열이 가득 차서 거절돼도 기다렸다가 다시 제출해 모두 저장")
+    void hashQueueRejectedTest() throws Exception {
+        // 해싱 스레드 1개 + 대기열 1칸 -> window(64) 안의 세 번째 제출부터 거절됨
+        PasswordHashingService hashing = new PasswordHashingService(passwordEncoder, 1, 1, 5_000, new SimpleMeterRegistry());
+        UserImportService service = new UserImportService(userJdbcDao, hashing, transactionTemplate, 1000, 64);
+
+        List<String> lines = new ArrayList<>();
+        lines.add("username,email,phone,password");
+        for (int i = 0; i < 8; i++) {
+            lines.add("r" + i + "," + prefix + "r" + i + "@example.com," + prefix + "r" + i + ",password");
+        }
+        UserImportJob job = new UserImportJob("test-rejected");
+        try {
+            service.importFile(write(lines.toArray(String[]::new)), job);
+        } finally {
+            hashing.shutdown();
+        }
+
+        assertEquals(UserImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(8, job.getInserted());
+        assertTrue(hashing.getRejectedCount() > 0, "대기열 거절이 발생하지 않음");
+        assertTrue(passwordEncoder.matches("password", userRepository.findByPhone(prefix + "r7").orElseThrow().getPassword()));
+    }
+
+    private Path write(String... lines) throws Exception {
+        if (file != null) Files.deleteIfExists(file);
+        file = Files.createTempFile("user-import-test-", ".csv");
+        Files.write(file, String.join("\n", lines).getBytes());
+        return file;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.loginbe;
+
+import com.example.loginbe.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// UserRepository 조회 메서드와 같은 조건의 쿼리가 풀 스캔(type=ALL) 없이 인덱스를 타는지 확인
+// searchSummaries는 Hibernate가 실제로 만든 SQL을 StatementInspector로 받아서 EXPLAIN
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.loginbe.UserIndexExplainTest$SqlCapture")
+class UserIndexExplainTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // findByEmail
+            "select * from `user` where email = 'a@example.com'",
+            // findBySocialId
+            "select * from `user` where social_id = '1234'",
+            // findByPhone
+            "select * from `user` where phone = '01012345678'",
+            // findBySocialIdAndProvider
+            "select * from `user` where social_id = '1234' and provider = 'kakao'"
+    })
+    @DisplayName("조회 쿼리가 풀 스캔하지 않음")
+    void explainTest(String sql) {
+        assertNoFullScan(sql, jdbcTemplate.queryForList("explain " + sql));
+    }
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", value = {
+            "null, null, null, null",
+            "a%, null, null, null",
+            "null, 010%, null, null",
+            "null, null, kakao, ROLE_USER",
+            "a%, 010%, kakao, ROLE_USER"
+    })
+    @DisplayName("searchSummaries가 생성한 SQL이 필터 조합과 관계없이 풀 스캔하지 않음")
+    void searchSummariesExplainTest(String emailPrefix, String phonePrefix, String provider, String role) {
+        SqlCapture.statements.clear();
+        userRepository.searchSummaries(0, emailPrefix, phonePrefix, provider, role, PageRequest.ofSize(PAGE_SIZE));
+        assertEquals(1, SqlCapture.statements.size(), () -> "실행된 SQL: " + SqlCapture.statements);
+        String sql = SqlCapture.statements.get(0);
+
+        // 바인딩 순서는 JPQL에 파라미터가 나오는 순서와 같음 (필터는 "is null"과 비교에 한 번씩) + limit
+        Object[] args = {0L, emailPrefix, emailPrefix, phonePrefix, phonePrefix, provider, provider, role, role, PAGE_SIZE};
+        assertEquals(args.length, sql.chars().filter(c -> c == '?').count(), () -> "파라미터 수가 다름: " + sql);
+
+        assertNoFullScan(sql, jdbcTemplate.queryForList("explain " + sql, args));
+    }
+
+    private void assertNoFullScan(String sql, List<Map<String, Object>> plan) {
+        for (Map<String, Object> row : plan) {
+            assertNotEquals("ALL", row.get("type"), () -> "풀 스캔: " + sql + " -> " + row);
+        }
+    }
+
+    // Hibernate가 JDBC로 보내는 SQL을 그대로 기록 (SQL은 바꾸지 않음)
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
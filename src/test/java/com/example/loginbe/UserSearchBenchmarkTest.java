@@ -0,0 +1,82 @@
+package com.example.loginbe;
+
+import com.example.loginbe.dto.UserSummaryDto;
+import com.example.loginbe.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 수백만 건의 회원 테이블에서 키셋 페이지네이션의 페이지당 지연 시간 측정 (./gradlew benchmark)
+// 건수 조정: -Dbench.users=1000000
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserSearchBenchmarkTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final String EMAIL_PREFIX = "bench-search-";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeAll
+    void seed() {
+        long target = Long.getLong("bench.users", 2_000_000L);
+        jdbcTemplate.update("insert into `user` (username, email, phone, role) values (?, ?, ?, ?)",
+                "bench", EMAIL_PREFIX + "seed@example.com", EMAIL_PREFIX + "seed", "ROLE_USER");
+
+        // INSERT ... SELECT 로 행 수를 두 배씩 늘림 (phone은 unique 이므로 UUID 사용)
+        long count = 1;
+        while (count < target) {
+            jdbcTemplate.update("""
+                    insert into `user` (username, email, phone, role)
+                    select username, concat(?, uuid(), '@example.com'), uuid(), role
+                    from `user` where email like ?
+                    """, EMAIL_PREFIX, EMAIL_PREFIX + "%");
+            count *= 2;
+        }
+        System.out.println("시드 데이터: " + count + "건");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from `user` where email like ?", EMAIL_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("앞/중간/끝 페이지 지연 시간이 일정한지 확인")
+    void pageLatency() {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from `user`", Long.class);
+        Long minId = jdbcTemplate.queryForObject("select min(id) from `user`", Long.class);
+
+        for (long cursor : new long[]{minId - 1, (minId + maxId) / 2, maxId - PAGE_SIZE * 2}) {
+            // 워밍업 후 측정
+            search(cursor);
+            long start = System.nanoTime();
+            int rounds = 20;
+            for (int i = 0; i < rounds; i++) {
+                assertEquals(PAGE_SIZE, search(cursor).size());
+            }
+            double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / rounds;
+            System.out.printf("cursor=%d: 페이지당 %.2fms%n", cursor, avgMillis);
+        }
+    }
+
+    private List<UserSummaryDto> search(long cursor) {
+        return userRepository.searchSummaries(cursor, null, null, null, null, PageRequest.ofSize(PAGE_SIZE));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.loginbe;
+
+import com.example.loginbe.security.util.JwtTokenProvider;
+import com.example.loginbe.security.util.ParsedToken;
+import com.example.loginbe.security.util.VerifiedTokenCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "jwt.cache.enabled=true")
+class VerifiedTokenCacheTest {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Test
+    @DisplayName("같은 토큰은 두 번째부터 캐시에서 조회")
+    void cacheHitTest() {
+        String token = jwtTokenProvider.generateAccessToken("cache@example.com", "ROLE_USER");
+        long hits = verifiedTokenCache.getHitCount();
+        long misses = verifiedTokenCache.getMissCount();
+
+        ParsedToken first = jwtTokenProvider.parse(token);
+        ParsedToken second = jwtTokenProvider.parse(token);
+
+        assertTrue(first.isValid());
+        assertSame(first, second);
+        assertEquals(misses + 1, verifiedTokenCache.getMissCount());
+        assertEquals(hits + 1, verifiedTokenCache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("블랙리스트 등록 시 캐시에서 즉시 제거")
+    void blacklistEvictsTest() {
+        String token = jwtTokenProvider.generateAccessToken("evict@example.com", "ROLE_USER");
+        ParsedToken cached = jwtTokenProvider.parse(token);
+
+        jwtTokenProvider.addToBlacklist(token, cached);
+
+        assertNotSame(cached, jwtTokenProvider.parse(token));
+        assertTrue(jwtTokenProvider.isBlacklisted(token));
+    }
+}